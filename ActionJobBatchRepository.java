@@ -0,0 +1,16 @@
+package com.example.repository;
+
+import com.example.model.ActionJob;
+import com.example.model.JobStatus;
+import java.util.List;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.repository.Repository;
+
+/**
+ * Bounded reads of action jobs for the schedulers, so one run never loads the whole backlog.
+ */
+public interface ActionJobBatchRepository extends Repository<ActionJob, Long> {
+
+    List<ActionJob> findByStatusOrderByIdAsc(JobStatus status, Limit limit);
+
+}
@@ -7,7 +7,7 @@ import com.example.dto.GoalEvent;
 import com.example.exception.ActionJobMappingException;
 import com.example.model.ActionJob;
 import com.example.model.Goal;
-import com.example.model.enums.JobStatus;
+import com.example.model.JobStatus;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.time.ZoneOffset;
 import java.util.HashMap;
@@ -24,16 +24,20 @@ import org.mapstruct.Mapping;
 public interface ActionJobMapper {
 
     @Mapping(target = "data", expression = "java(serializeToJson(event.goalDto()))")
-    @Mapping(target = "status", expression = "java(com.example.model.enums.JobStatus.NEW)")
+    @Mapping(target = "status", expression = "java(com.example.model.JobStatus.NEW)")
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "attemptCount", ignore = true)
+    @Mapping(target = "nextAttemptAt", ignore = true)
     @Mapping(source = "messageType", target = "messageType")
     ActionJob toEntity(GoalEvent event, String messageType);
 
     @Mapping(target = "data", expression = "java(serializeToJson(goalMapper.toDto(goal)))")
-    @Mapping(target = "status", expression = "java(com.example.model.enums.JobStatus.NEW)")
+    @Mapping(target = "status", expression = "java(com.example.model.JobStatus.NEW)")
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "attemptCount", ignore = true)
+    @Mapping(target = "nextAttemptAt", ignore = true)
     ActionJob toEntity(
             Goal goal,
             String messageType,
@@ -0,0 +1,84 @@
+package com.example.repository;
+
+import com.example.model.ActionJob;
+import java.util.Collection;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Set-based updates behind the automatic re-drive of failed action jobs.
+ * Every method touches a whole batch of jobs in a single statement.
+ */
+public interface ActionJobRedriveRepository extends Repository<ActionJob, Long> {
+
+    /**
+     * Marks jobs as failed and schedules their next attempt with jittered exponential backoff:
+     * {@code baseDelay * 2^attempts}, capped at {@code maxDelay}.
+     */
+    @Transactional
+    @Modifying
+    @Query(nativeQuery = true, value = """
+        UPDATE action_job
+        SET status = 'ERROR',
+            attempt_count = attempt_count + 1,
+            next_attempt_at = now()
+                + LEAST(:maxDelayMs, :baseDelayMs * POWER(2, attempt_count))
+                * (0.5 + random() / 2)
+                * INTERVAL '1 millisecond'
+        WHERE id IN (:ids)
+        """)
+    int markFailed(
+            @Param("ids") Collection<Long> ids,
+            @Param("baseDelayMs") long baseDelayMs,
+            @Param("maxDelayMs") long maxDelayMs
+    );
+
+    /**
+     * Returns at most {@code limit} due failed jobs to {@code NEW}, oldest due first.
+     */
+    @Transactional
+    @Modifying
+    @Query(nativeQuery = true, value = """
+        UPDATE action_job
+        SET status = 'NEW'
+        WHERE id IN (
+            SELECT id
+            FROM action_job
+            WHERE status = 'ERROR'
+              AND next_attempt_at <= now()
+              AND attempt_count < :maxAttempts
+            ORDER BY next_attempt_at
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+        )
+        """)
+    int requeueDue(@Param("maxAttempts") int maxAttempts, @Param("limit") int limit);
+
+    /**
+     * Moves at most {@code limit} failed jobs that reached {@code maxAttempts} to the dead-letter table.
+     */
+    @Transactional
+    @Modifying
+    @Query(nativeQuery = true, value = """
+        WITH exhausted AS (
+            DELETE FROM action_job
+            WHERE id IN (
+                SELECT id
+                FROM action_job
+                WHERE status = 'ERROR'
+                  AND attempt_count >= :maxAttempts
+                LIMIT :limit
+                FOR UPDATE SKIP LOCKED
+            )
+            RETURNING id, message_type, data, attempt_count, created_at
+        )
+        INSERT INTO action_job_dead_letter (job_id, message_type, data, attempt_count, created_at)
+        SELECT id, message_type, data, attempt_count, created_at
+        FROM exhausted
+        """)
+    int moveExhaustedToDeadLetter(@Param("maxAttempts") int maxAttempts, @Param("limit") int limit);
+
+}
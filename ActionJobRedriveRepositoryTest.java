@@ -0,0 +1,144 @@
+package com.example.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+@DataJpaTest
+@Testcontainers
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+        "spring.liquibase.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=none"
+})
+// Pre-migration table followed by the migration under test, both rolled back with the test transaction
+@Sql(statements = """
+        CREATE TABLE action_job (
+            id           BIGSERIAL PRIMARY KEY,
+            data         TEXT,
+            status       VARCHAR(32) NOT NULL,
+            message_type VARCHAR(255),
+            created_at   TIMESTAMP DEFAULT now()
+        )
+        """)
+@Sql("classpath:db/action_job_redrive.sql")
+class ActionJobRedriveRepositoryTest {
+
+    private static final long BASE_DELAY_MS = 1_000L;
+    private static final long MAX_DELAY_MS = 60_000L;
+    private static final int MAX_ATTEMPTS = 3;
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private ActionJobRedriveRepository redriveRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void testMarkFailedUsesPreviousAttemptCountForBackoff() {
+        long first = insertJob("NEW", 0, "now()");
+        long third = insertJob("NEW", 2, "now()");
+
+        int updated = redriveRepository.markFailed(List.of(first, third), BASE_DELAY_MS, MAX_DELAY_MS);
+
+        assertThat(updated).isEqualTo(2);
+        assertThat(status(first)).isEqualTo("ERROR");
+        assertThat(attemptCount(first)).isEqualTo(1);
+        assertThat(attemptCount(third)).isEqualTo(3);
+        // base * 2^attempts before the increment, with jitter between 50% and 100%
+        assertThat(delayMs(first)).isBetween(BASE_DELAY_MS / 2, BASE_DELAY_MS);
+        assertThat(delayMs(third)).isBetween(BASE_DELAY_MS * 2, BASE_DELAY_MS * 4);
+    }
+
+    @Test
+    void testMarkFailedCapsDelay() {
+        long job = insertJob("NEW", 30, "now()");
+
+        redriveRepository.markFailed(List.of(job), BASE_DELAY_MS, MAX_DELAY_MS);
+
+        assertThat(delayMs(job)).isBetween(MAX_DELAY_MS / 2, MAX_DELAY_MS);
+    }
+
+    @Test
+    void testRequeueDueRespectsDueTimeAttemptsAndLimit() {
+        long due = insertJob("ERROR", 1, "now() - INTERVAL '2 seconds'");
+        long dueLater = insertJob("ERROR", 1, "now() - INTERVAL '1 second'");
+        long notDue = insertJob("ERROR", 1, "now() + INTERVAL '1 minute'");
+        long exhausted = insertJob("ERROR", MAX_ATTEMPTS, "now() - INTERVAL '1 minute'");
+
+        int requeued = redriveRepository.requeueDue(MAX_ATTEMPTS, 1);
+
+        assertThat(requeued).isEqualTo(1);
+        assertThat(status(due)).isEqualTo("NEW");
+        assertThat(status(dueLater)).isEqualTo("ERROR");
+        assertThat(status(notDue)).isEqualTo("ERROR");
+        assertThat(status(exhausted)).isEqualTo("ERROR");
+
+        assertThat(redriveRepository.requeueDue(MAX_ATTEMPTS, 10)).isEqualTo(1);
+        assertThat(status(dueLater)).isEqualTo("NEW");
+    }
+
+    @Test
+    void testMoveExhaustedToDeadLetterAtMaxAttempts() {
+        long belowMax = insertJob("ERROR", MAX_ATTEMPTS - 1, "now()");
+        long atMax = insertJob("ERROR", MAX_ATTEMPTS, "now()");
+        long pending = insertJob("NEW", MAX_ATTEMPTS, "now()");
+
+        int moved = redriveRepository.moveExhaustedToDeadLetter(MAX_ATTEMPTS, 10);
+
+        assertThat(moved).isEqualTo(1);
+        assertThat(exists(atMax)).isFalse();
+        assertThat(exists(belowMax)).isTrue();
+        assertThat(exists(pending)).isTrue();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT attempt_count FROM action_job_dead_letter WHERE job_id = ?", Integer.class, atMax
+        )).isEqualTo(MAX_ATTEMPTS);
+    }
+
+    private long insertJob(String status, int attemptCount, String nextAttemptAt) {
+        return jdbcTemplate.queryForObject(
+                "INSERT INTO action_job (data, status, message_type, attempt_count, next_attempt_at) "
+                        + "VALUES ('{}', ?, 'CreateGoal', ?, " + nextAttemptAt + ") RETURNING id",
+                Long.class,
+                status,
+                attemptCount
+        );
+    }
+
+    private String status(long id) {
+        return jdbcTemplate.queryForObject("SELECT status FROM action_job WHERE id = ?", String.class, id);
+    }
+
+    private int attemptCount(long id) {
+        return jdbcTemplate.queryForObject("SELECT attempt_count FROM action_job WHERE id = ?", Integer.class, id);
+    }
+
+    private long delayMs(long id) {
+        return jdbcTemplate.queryForObject(
+                "SELECT (EXTRACT(EPOCH FROM next_attempt_at - now()) * 1000)::BIGINT FROM action_job WHERE id = ?",
+                Long.class,
+                id
+        );
+    }
+
+    private boolean exists(long id) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM action_job WHERE id = ?)", Boolean.class, id
+        ));
+    }
+
+}
@@ -0,0 +1,57 @@
+package com.example.scheduler;
+
+import com.example.repository.ActionJobRedriveRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically returns failed action jobs whose backoff has elapsed to {@code NEW},
+ * so {@link ActionJobScheduler} sends them again, and moves jobs that exhausted
+ * their attempts to the dead-letter table. At most {@code batch-limit} jobs are
+ * re-driven per run, which caps the re-send rate after a Kafka outage.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ActionJobRedriveScheduler {
+
+    private final ActionJobRedriveRepository redriveRepository;
+
+    @Value("${app.scheduler.redrive.enabled:true}")
+    private boolean redriveEnabled;
+    @Value("${app.scheduler.redrive.max-attempts:10}")
+    private int maxAttempts;
+    @Value("${app.scheduler.redrive.batch-limit:100}")
+    private int batchLimit;
+
+    @Scheduled(
+            cron = "${app.scheduler.redrive.cron:0 * * * * *}",
+            zone = "${app.scheduler.jobs.timezone}"
+    )
+    @SchedulerLock(
+            name = "actionJobsRedriveLock",
+            lockAtLeastFor = "#{@lockSettings.getMinLockDuration()}",
+            lockAtMostFor = "#{@lockSettings.getMaxLockDuration()}"
+    )
+    public void redriveFailedJobs() {
+        if (!redriveEnabled) {
+            log.debug("Re-drive of failed action jobs is disabled");
+            return;
+        }
+
+        int deadLettered = redriveRepository.moveExhaustedToDeadLetter(maxAttempts, batchLimit);
+        if (deadLettered > 0) {
+            log.warn("Moved {} ActionJobs to dead-letter after {} failed attempts", deadLettered, maxAttempts);
+        }
+
+        int requeued = redriveRepository.requeueDue(maxAttempts, batchLimit);
+        if (requeued > 0) {
+            log.info("Re-queued {} failed ActionJobs for another Kafka send", requeued);
+        }
+    }
+
+}
@@ -0,0 +1,137 @@
+package com.example.scheduler;
+
+import static com.example.model.JobStatus.NEW;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.converter.GoalAvroConverter;
+import com.example.model.ActionJob;
+import com.example.repository.ActionJobBatchRepository;
+import com.example.repository.ActionJobRedriveRepository;
+import com.example.repository.ActionJobRepository;
+import com.example.service.kafka.AsyncKafkaEventProducer;
+import com.example.service.kafka.AsyncKafkaEventProducer.SendOutcome;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+
+@ExtendWith(MockitoExtension.class)
+class ActionJobSchedulerTest {
+
+    private static final String TOPIC = "goal-topic";
+
+    @Mock
+    private ActionJobRepository jobRepository;
+    @Mock
+    private ActionJobBatchRepository batchRepository;
+    @Mock
+    private ActionJobRedriveRepository redriveRepository;
+    @Mock
+    private GoalAvroConverter avroConverter;
+    @Mock
+    private AsyncKafkaEventProducer kafkaProducer;
+
+    @InjectMocks
+    private ActionJobScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(scheduler, "kafkaTopic", TOPIC);
+        ReflectionTestUtils.setField(scheduler, "schedulerEnabled", true);
+        ReflectionTestUtils.setField(scheduler, "batchSize", 2);
+        ReflectionTestUtils.setField(scheduler, "sendTimeout", Duration.ofSeconds(5));
+        ReflectionTestUtils.setField(scheduler, "drainTimeout", Duration.ofSeconds(5));
+        ReflectionTestUtils.setField(scheduler, "redriveBaseDelayMs", 1000L);
+        ReflectionTestUtils.setField(scheduler, "redriveMaxDelayMs", 60000L);
+    }
+
+    @Test
+    void testSentJobsAreDeletedAndFailedJobsScheduledForRedrive() {
+        var sent = job(1L);
+        var failed = job(2L);
+        when(batchRepository.findByStatusOrderByIdAsc(NEW, Limit.of(2)))
+                .thenReturn(List.of(sent, failed), List.of());
+        when(kafkaProducer.<ActionJob>produceAll(eq(TOPIC), anyList(), any(), any(), any(Duration.class)))
+                .thenReturn(Flux.just(
+                        new SendOutcome<>(sent, "1", null),
+                        new SendOutcome<>(failed, "2", new IllegalStateException("broker down"))
+                ));
+
+        scheduler.processPendingJobs();
+
+        verify(jobRepository).deleteAllByIdInBatch(List.of(1L));
+        verify(redriveRepository).markFailed(List.of(2L), 1000L, 60000L);
+        verify(batchRepository, times(2)).findByStatusOrderByIdAsc(NEW, Limit.of(2));
+    }
+
+    @Test
+    void testPartialBatchEndsTheRun() {
+        var sent = job(1L);
+        when(batchRepository.findByStatusOrderByIdAsc(NEW, Limit.of(2))).thenReturn(List.of(sent));
+        when(kafkaProducer.<ActionJob>produceAll(eq(TOPIC), anyList(), any(), any(), any(Duration.class)))
+                .thenReturn(Flux.just(new SendOutcome<>(sent, "1", null)));
+
+        scheduler.processPendingJobs();
+
+        verify(jobRepository).deleteAllByIdInBatch(List.of(1L));
+        verify(batchRepository, times(1)).findByStatusOrderByIdAsc(NEW, Limit.of(2));
+    }
+
+    @Test
+    void testJobsNotStartedWithinWindowStayNew() {
+        when(batchRepository.findByStatusOrderByIdAsc(NEW, Limit.of(2))).thenReturn(List.of(job(1L), job(2L)));
+        when(kafkaProducer.<ActionJob>produceAll(eq(TOPIC), anyList(), any(), any(), any(Duration.class)))
+                .thenReturn(Flux.empty());
+
+        scheduler.processPendingJobs();
+
+        verify(jobRepository, never()).deleteAllByIdInBatch(any());
+        verify(redriveRepository, never()).markFailed(any(), eq(1000L), eq(60000L));
+    }
+
+    @Test
+    void testStalledBrokerLeavesJobsNewAfterDrainTimeout() {
+        ReflectionTestUtils.setField(scheduler, "sendTimeout", Duration.ofMillis(100));
+        ReflectionTestUtils.setField(scheduler, "drainTimeout", Duration.ofMillis(100));
+        when(batchRepository.findByStatusOrderByIdAsc(NEW, Limit.of(2))).thenReturn(List.of(job(1L), job(2L)));
+        when(kafkaProducer.<ActionJob>produceAll(eq(TOPIC), anyList(), any(), any(), any(Duration.class)))
+                .thenReturn(Flux.never());
+
+        assertThatCode(() -> scheduler.processPendingJobs()).doesNotThrowAnyException();
+
+        verify(jobRepository, never()).deleteAllByIdInBatch(any());
+        verify(redriveRepository, never()).markFailed(any(), eq(1000L), eq(60000L));
+    }
+
+    @Test
+    void testDisabledSchedulerDoesNothing() {
+        ReflectionTestUtils.setField(scheduler, "schedulerEnabled", false);
+
+        scheduler.processPendingJobs();
+
+        verify(batchRepository, never()).findByStatusOrderByIdAsc(any(), any());
+    }
+
+    private static ActionJob job(long id) {
+        var job = mock(ActionJob.class);
+        lenient().when(job.getId()).thenReturn(id);
+        return job;
+    }
+
+}
@@ -1,33 +1,63 @@
 package com.example.scheduler;
 
-import static com.example.model.JobStatus.ERROR;
 import static com.example.model.JobStatus.NEW;
 
 import com.example.converter.GoalAvroConverter;
 import com.example.model.ActionJob;
+import com.example.repository.ActionJobBatchRepository;
+import com.example.repository.ActionJobRedriveRepository;
 import com.example.repository.ActionJobRepository;
-import com.example.service.kafka.KafkaEventProducer;
-import java.util.Comparator;
+import com.example.service.kafka.AsyncKafkaEventProducer;
+import com.example.service.kafka.AsyncKafkaEventProducer.SendOutcome;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+/**
+ * Publishes NEW action jobs to Kafka in batches and deletes them once the broker acknowledged them.
+ * <p>
+ * New sends are started only within {@code app.scheduler.jobs.send-timeout}; sends already handed
+ * to the producer are then awaited for up to {@code app.scheduler.jobs.drain-timeout}, so jobs that
+ * were never sent stay NEW without the risk of a duplicate. If a started send is still unconfirmed
+ * after the drain timeout (the broker is slower than the producer's {@code delivery.timeout.ms}),
+ * its job stays NEW as well, although the record may still be delivered: such a job can be sent
+ * twice, and consumers must tolerate it.
+ */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class ActionJobScheduler {
 
     private final ActionJobRepository jobRepository;
+    private final ActionJobBatchRepository batchRepository;
+    private final ActionJobRedriveRepository redriveRepository;
     private final GoalAvroConverter avroConverter;
-    private final KafkaEventProducer kafkaProducer;
+    private final AsyncKafkaEventProducer kafkaProducer;
 
     @Value("${app.kafka.topic.goal}")
     private String kafkaTopic;
     @Value("${app.scheduler.jobs.enabled}")
     private boolean schedulerEnabled;
+    @Value("${app.scheduler.jobs.batch-size:1000}")
+    private int batchSize;
+    // send-timeout plus drain-timeout must stay below lockAtMostFor, otherwise another instance may send the same jobs again
+    @Value("${app.scheduler.jobs.send-timeout:PT1M}")
+    private Duration sendTimeout;
+    // Matches the default Kafka delivery.timeout.ms, after which every started send has completed
+    @Value("${app.scheduler.jobs.drain-timeout:PT2M}")
+    private Duration drainTimeout;
+    @Value("${app.scheduler.redrive.base-delay-ms:30000}")
+    private long redriveBaseDelayMs;
+    @Value("${app.scheduler.redrive.max-delay-ms:3600000}")
+    private long redriveMaxDelayMs;
 
     @Scheduled(
             cron = "${app.scheduler.jobs.cron}",
@@ -44,26 +74,65 @@ public class ActionJobScheduler {
             return;
         }
 
-        var pendingJobs = jobRepository.findByStatus(NEW);
+        long deadline = System.nanoTime() + sendTimeout.toNanos();
+        List<ActionJob> pendingJobs;
+        do {
+            pendingJobs = batchRepository.findByStatusOrderByIdAsc(NEW, Limit.of(batchSize));
+            if (pendingJobs.isEmpty()) {
+                return;
+            }
 
-        if (pendingJobs.size() > 1) {
-            pendingJobs.stream()
-                    .sorted(Comparator.comparingLong(ActionJob::getId))
-                    .forEach(job -> {
-                        String jobKey = job.getId().toString();
-                        var avroEvent = avroConverter.convertToAvroModel(job);
+            Duration remaining = Duration.ofNanos(deadline - System.nanoTime());
+            if (remaining.isNegative() || remaining.isZero()) {
+                log.info("Send timeout reached, {} pending ActionJobs left for the next run", pendingJobs.size());
+                return;
+            }
 
-                        boolean sentSuccessfully = kafkaProducer.produce(kafkaTopic, jobKey, avroEvent);
+            sendBatch(pendingJobs, remaining);
+        } while (pendingJobs.size() == batchSize);
+    }
+
+    private void sendBatch(List<ActionJob> pendingJobs, Duration submitWindow) {
+        // Jobs not started within the window get no outcome and stay NEW; started sends are awaited
+        Map<Boolean, List<ActionJob>> jobsBySendResult;
+        try {
+            jobsBySendResult = kafkaProducer
+                    .produceAll(
+                            kafkaTopic,
+                            pendingJobs,
+                            job -> job.getId().toString(),
+                            avroConverter::convertToAvroModel,
+                            submitWindow
+                    )
+                    .collect(Collectors.partitioningBy(
+                            SendOutcome::isSuccess,
+                            Collectors.mapping(SendOutcome::item, Collectors.toList())
+                    ))
+                    .block(submitWindow.plus(drainTimeout));
+        } catch (IllegalStateException e) {
+            log.warn("Kafka did not confirm ActionJobs within '{}', they stay NEW and may be sent twice",
+                    submitWindow.plus(drainTimeout), e);
+            return;
+        }
+
+        List<ActionJob> sentJobs = jobsBySendResult.get(true);
+        if (!sentJobs.isEmpty()) {
+            jobRepository.deleteAllByIdInBatch(sentJobs.stream().map(ActionJob::getId).toList());
+            log.info("Deleted {} ActionJobs after successful Kafka send", sentJobs.size());
+        }
+
+        List<ActionJob> failedJobs = jobsBySendResult.get(false);
+        if (!failedJobs.isEmpty()) {
+            List<Long> failedIds = failedJobs.stream().map(ActionJob::getId).toList();
+            redriveRepository.markFailed(failedIds, redriveBaseDelayMs, redriveMaxDelayMs);
+            log.warn("Failed to send {} ActionJobs to Kafka, status set to ERROR and re-drive scheduled: '{}'",
+                    failedIds.size(),
+                    failedIds);
+        }
 
-                        if (sentSuccessfully) {
-                            jobRepository.delete(job);
-                            log.info("Deleted ActionJob with ID '{}' after successful Kafka send", jobKey);
-                        } else {
-                            job.setStatus(ERROR);
-                            jobRepository.save(job);
-                            log.warn("Failed to send ActionJob with ID '{}' to Kafka, status set to ERROR", jobKey);
-                        }
-                    });
+        int notStarted = pendingJobs.size() - sentJobs.size() - failedJobs.size();
+        if (notStarted > 0) {
+            log.info("{} ActionJobs were not sent within '{}', they stay NEW for the next run", notStarted, submitWindow);
         }
     }
   
@@ -38,12 +38,12 @@ public record ProjectTarget(
       Boolean deleted
   ) {
     var target = new ProjectTarget(id, systemId, createdAt, ownerId, year, deleted);
-    var violations = VALIDATOR.validate(target);
-    if (violations.isValid()) {
+    if (ProjectTargetBatchValidator.missingFields(id, systemId, createdAt, ownerId, year, deleted) == 0) {
       return target;
     }
 
-    throw new ValidationException(target, violations);
+    // Only invalid input pays for the YAVI run, so the exception keeps its detailed violations
+    throw new ValidationException(target, VALIDATOR.validate(target));
   }
   
 }
@@ -0,0 +1,213 @@
+package com.example.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Validates {@link ProjectTarget} rows in bulk without building a record or throwing per bad row.
+ * <p>
+ * Every row is reduced to a bitmask of its missing fields, so a batch is checked in a single pass
+ * and only invalid rows are remembered, together with the mask that explains why they failed.
+ */
+public final class ProjectTargetBatchValidator {
+
+  static final String[] FIELD_NAMES = {"id", "systemId", "createdAt", "ownerId", "year", "deleted"};
+
+  private static final int ID = 1;
+  private static final int SYSTEM_ID = 1 << 1;
+  private static final int CREATED_AT = 1 << 2;
+  private static final int OWNER_ID = 1 << 3;
+  private static final int YEAR = 1 << 4;
+  private static final int DELETED = 1 << 5;
+
+  private ProjectTargetBatchValidator() {
+  }
+
+  /**
+   * Returns a bitmask of the fields that are {@code null}, in {@link #FIELD_NAMES} order;
+   * {@code 0} means the row satisfies every not-null constraint of {@link ProjectTarget}.
+   */
+  public static int missingFields(
+      Integer id,
+      Integer systemId,
+      Long createdAt,
+      Long ownerId,
+      Integer year,
+      Boolean deleted
+  ) {
+    int mask = 0;
+    if (id == null) {
+      mask |= ID;
+    }
+    if (systemId == null) {
+      mask |= SYSTEM_ID;
+    }
+    if (createdAt == null) {
+      mask |= CREATED_AT;
+    }
+    if (ownerId == null) {
+      mask |= OWNER_ID;
+    }
+    if (year == null) {
+      mask |= YEAR;
+    }
+    if (deleted == null) {
+      mask |= DELETED;
+    }
+    return mask;
+  }
+
+  public static List<String> fieldNames(int mask) {
+    List<String> names = new ArrayList<>(Integer.bitCount(mask));
+    for (int i = 0; i < FIELD_NAMES.length; i++) {
+      if ((mask & (1 << i)) != 0) {
+        names.add(FIELD_NAMES[i]);
+      }
+    }
+    return names;
+  }
+
+  public static Result validate(List<ProjectTarget> targets) {
+    var collector = new Collector(targets.size());
+    for (int row = 0; row < targets.size(); row++) {
+      var target = targets.get(row);
+      int mask = target == null
+          ? ID | SYSTEM_ID | CREATED_AT | OWNER_ID | YEAR | DELETED
+          : missingFields(
+              target.id(),
+              target.systemId(),
+              target.createdAt(),
+              target.ownerId(),
+              target.year(),
+              target.deleted()
+          );
+      collector.accept(row, mask);
+    }
+    return collector.result();
+  }
+
+  /**
+   * Validates a columnar batch where the i-th element of every array belongs to row i.
+   */
+  public static Result validate(
+      Integer[] ids,
+      Integer[] systemIds,
+      Long[] createdAts,
+      Long[] ownerIds,
+      Integer[] years,
+      Boolean[] deleted
+  ) {
+    int size = ids.length;
+    if (systemIds.length != size || createdAts.length != size || ownerIds.length != size
+        || years.length != size || deleted.length != size) {
+      throw new IllegalArgumentException("All columns must have the same length");
+    }
+
+    var collector = new Collector(size);
+    for (int row = 0; row < size; row++) {
+      collector.accept(row, missingFields(
+          ids[row],
+          systemIds[row],
+          createdAts[row],
+          ownerIds[row],
+          years[row],
+          deleted[row]
+      ));
+    }
+    return collector.result();
+  }
+
+  /**
+   * Outcome of a batch validation: the set of invalid rows and, for each of them,
+   * the bitmask of missing fields. Rows not present in {@link #invalidRows()} are valid.
+   */
+  public static final class Result {
+
+    private final int size;
+    private final BitSet invalidRows;
+    private final int[] rows;
+    private final byte[] masks;
+
+    private Result(int size, BitSet invalidRows, int[] rows, byte[] masks) {
+      this.size = size;
+      this.invalidRows = invalidRows;
+      this.rows = rows;
+      this.masks = masks;
+    }
+
+    public int size() {
+      return size;
+    }
+
+    public boolean isValid() {
+      return rows.length == 0;
+    }
+
+    public int invalidCount() {
+      return rows.length;
+    }
+
+    public boolean isValid(int row) {
+      return !invalidRows.get(checkRow(row));
+    }
+
+    public BitSet invalidRows() {
+      return (BitSet) invalidRows.clone();
+    }
+
+    public int[] invalidRowIndexes() {
+      return rows.clone();
+    }
+
+    public int missingFields(int row) {
+      int index = Arrays.binarySearch(rows, checkRow(row));
+      return index < 0 ? 0 : masks[index];
+    }
+
+    public List<String> reasons(int row) {
+      return fieldNames(missingFields(row));
+    }
+
+    private int checkRow(int row) {
+      if (row < 0 || row >= size) {
+        throw new IndexOutOfBoundsException("Row " + row + " is out of range for size " + size);
+      }
+      return row;
+    }
+  }
+
+  private static final class Collector {
+
+    private final int size;
+    private final BitSet invalidRows;
+    private int[] rows = new int[8];
+    private byte[] masks = new byte[8];
+    private int count;
+
+    private Collector(int size) {
+      this.size = size;
+      this.invalidRows = new BitSet(size);
+    }
+
+    private void accept(int row, int mask) {
+      if (mask == 0) {
+        return;
+      }
+      if (count == rows.length) {
+        rows = Arrays.copyOf(rows, count * 2);
+        masks = Arrays.copyOf(masks, count * 2);
+      }
+      invalidRows.set(row);
+      rows[count] = row;
+      masks[count] = (byte) mask;
+      count++;
+    }
+
+    private Result result() {
+      return new Result(size, invalidRows, Arrays.copyOf(rows, count), Arrays.copyOf(masks, count));
+    }
+  }
+
+}
@@ -0,0 +1,112 @@
+package com.example.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.exceptions.ValidationException;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class ProjectTargetBatchValidatorTest {
+
+    @Test
+    void testValidateRecords() {
+        List<ProjectTarget> targets = Arrays.asList(
+                new ProjectTarget(1, 10, 1_700_000_000L, 100L, 2024, false),
+                new ProjectTarget(2, null, 1_700_000_000L, null, 2024, false),
+                null,
+                new ProjectTarget(4, 10, 1_700_000_000L, 100L, 2025, true)
+        );
+
+        var result = ProjectTargetBatchValidator.validate(targets);
+
+        assertThat(result.isValid()).isFalse();
+        assertThat(result.invalidRowIndexes()).containsExactly(1, 2);
+        assertThat(result.isValid(0)).isTrue();
+        assertThat(result.reasons(1)).containsExactly("systemId", "ownerId");
+        assertThat(result.reasons(2)).hasSize(6);
+        assertThat(result.reasons(3)).isEmpty();
+    }
+
+    @Test
+    void testValidateColumns() {
+        var result = ProjectTargetBatchValidator.validate(
+                new Integer[] {1, 2},
+                new Integer[] {10, 10},
+                new Long[] {1L, 2L},
+                new Long[] {100L, 100L},
+                new Integer[] {2024, null},
+                new Boolean[] {false, false}
+        );
+
+        assertThat(result.invalidCount()).isEqualTo(1);
+        assertThat(result.invalidRows().get(1)).isTrue();
+        assertThat(result.reasons(1)).containsExactly("year");
+    }
+
+    @Test
+    void testResultRejectsOutOfRangeRow() {
+        var result = ProjectTargetBatchValidator.validate(
+                List.of(new ProjectTarget(1, 10, 1L, 100L, 2024, false))
+        );
+
+        assertThatThrownBy(() -> result.isValid(1)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> result.missingFields(-1)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void testMissingFieldsAgreesWithValidated() {
+        Object[] complete = {1, 10, 1_700_000_000L, 100L, 2024, false};
+
+        assertThat(missingFields(complete)).isZero();
+        assertThat(validated(complete)).isEqualTo(new ProjectTarget(1, 10, 1_700_000_000L, 100L, 2024, false));
+
+        for (int field = 0; field < complete.length; field++) {
+            Object[] values = complete.clone();
+            values[field] = null;
+
+            int mask = missingFields(values);
+            assertThat(mask).isEqualTo(1 << field);
+            assertThat(ProjectTargetBatchValidator.fieldNames(mask))
+                    .containsExactly(ProjectTargetBatchValidator.FIELD_NAMES[field]);
+            assertThatThrownBy(() -> validated(values))
+                    .isInstanceOf(ValidationException.class);
+        }
+    }
+
+    @Test
+    void testValidateColumnsWithDifferentLengths() {
+        assertThatThrownBy(() -> ProjectTargetBatchValidator.validate(
+                new Integer[] {1},
+                new Integer[] {},
+                new Long[] {1L},
+                new Long[] {1L},
+                new Integer[] {1},
+                new Boolean[] {true}
+        )).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static int missingFields(Object[] values) {
+        return ProjectTargetBatchValidator.missingFields(
+                (Integer) values[0],
+                (Integer) values[1],
+                (Long) values[2],
+                (Long) values[3],
+                (Integer) values[4],
+                (Boolean) values[5]
+        );
+    }
+
+    private static ProjectTarget validated(Object[] values) {
+        return ProjectTarget.validated(
+                (Integer) values[0],
+                (Integer) values[1],
+                (Long) values[2],
+                (Long) values[3],
+                (Integer) values[4],
+                (Boolean) values[5]
+        );
+    }
+
+}
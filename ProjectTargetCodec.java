@@ -0,0 +1,225 @@
+package com.example.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Compact binary codec for {@link ProjectTarget}, used instead of Java serialization
+ * for caches and messaging.
+ * <p>
+ * Layout: {@code [version][kind]} followed by one record ({@code kind = 0}) or by a varint
+ * count and that many records ({@code kind = 1}). A record is a flags byte, where bits 0-5
+ * mark present fields and bit 6 holds {@code deleted}, followed by the present numeric fields
+ * as zig-zag varints in declaration order. A typical record takes 12-16 bytes.
+ */
+public final class ProjectTargetCodec {
+
+  public static final byte VERSION = 1;
+
+  static final byte KIND_SINGLE = 0;
+  static final byte KIND_BATCH = 1;
+
+  private static final int HAS_ID = 1;
+  private static final int HAS_SYSTEM_ID = 1 << 1;
+  private static final int HAS_CREATED_AT = 1 << 2;
+  private static final int HAS_OWNER_ID = 1 << 3;
+  private static final int HAS_YEAR = 1 << 4;
+  private static final int HAS_DELETED = 1 << 5;
+  private static final int DELETED = 1 << 6;
+
+  private static final int MAX_RECORD_SIZE = 1 + 5 + 5 + 10 + 10 + 5;
+
+  private ProjectTargetCodec() {
+  }
+
+  public static byte[] encode(ProjectTarget target) {
+    var writer = new Writer(2 + MAX_RECORD_SIZE);
+    writer.writeByte(VERSION);
+    writer.writeByte(KIND_SINGLE);
+    writer.writeRecord(target);
+    return writer.toByteArray();
+  }
+
+  public static byte[] encodeAll(List<ProjectTarget> targets) {
+    var writer = new Writer(2 + 5 + targets.size() * 16);
+    writer.writeByte(VERSION);
+    writer.writeByte(KIND_BATCH);
+    writer.writeVarLong(targets.size());
+    for (var target : targets) {
+      writer.writeRecord(target);
+    }
+    return writer.toByteArray();
+  }
+
+  public static ProjectTarget decode(byte[] bytes) {
+    var reader = new Reader(bytes);
+    if (reader.readHeader() != KIND_SINGLE) {
+      throw new IllegalArgumentException("Expected a single ProjectTarget but found a batch");
+    }
+    var target = reader.readRecord();
+    reader.checkFullyRead();
+    return target;
+  }
+
+  /**
+   * Decodes a batch; a single encoded record is returned as a list of one.
+   */
+  public static List<ProjectTarget> decodeAll(byte[] bytes) {
+    var reader = new Reader(bytes);
+    if (reader.readHeader() == KIND_SINGLE) {
+      var target = reader.readRecord();
+      reader.checkFullyRead();
+      return List.of(target);
+    }
+
+    long count = reader.readVarLong();
+    // Every record takes at least its flags byte, which bounds a corrupted count
+    if (count < 0 || count > reader.remaining()) {
+      throw new IllegalArgumentException("Invalid ProjectTarget batch size: " + count);
+    }
+
+    List<ProjectTarget> targets = new ArrayList<>((int) count);
+    for (int i = 0; i < count; i++) {
+      targets.add(reader.readRecord());
+    }
+    reader.checkFullyRead();
+    return targets;
+  }
+
+  public static boolean isBatch(byte[] bytes) {
+    return new Reader(bytes).readHeader() == KIND_BATCH;
+  }
+
+  private static final class Writer {
+
+    private byte[] buffer;
+    private int position;
+
+    private Writer(int capacity) {
+      this.buffer = new byte[capacity];
+    }
+
+    private void writeRecord(ProjectTarget target) {
+      if (target == null) {
+        throw new IllegalArgumentException("Cannot encode a null ProjectTarget");
+      }
+
+      int flags = 0;
+      flags |= target.id() != null ? HAS_ID : 0;
+      flags |= target.systemId() != null ? HAS_SYSTEM_ID : 0;
+      flags |= target.createdAt() != null ? HAS_CREATED_AT : 0;
+      flags |= target.ownerId() != null ? HAS_OWNER_ID : 0;
+      flags |= target.year() != null ? HAS_YEAR : 0;
+      flags |= target.deleted() != null ? HAS_DELETED : 0;
+      flags |= Boolean.TRUE.equals(target.deleted()) ? DELETED : 0;
+
+      ensureCapacity(MAX_RECORD_SIZE);
+      writeByte(flags);
+      if (target.id() != null) {
+        writeVarLong(target.id());
+      }
+      if (target.systemId() != null) {
+        writeVarLong(target.systemId());
+      }
+      if (target.createdAt() != null) {
+        writeVarLong(target.createdAt());
+      }
+      if (target.ownerId() != null) {
+        writeVarLong(target.ownerId());
+      }
+      if (target.year() != null) {
+        writeVarLong(target.year());
+      }
+    }
+
+    private void writeByte(int value) {
+      ensureCapacity(1);
+      buffer[position++] = (byte) value;
+    }
+
+    private void writeVarLong(long value) {
+      ensureCapacity(10);
+      long zigZag = (value << 1) ^ (value >> 63);
+      while ((zigZag & ~0x7FL) != 0) {
+        buffer[position++] = (byte) ((zigZag & 0x7F) | 0x80);
+        zigZag >>>= 7;
+      }
+      buffer[position++] = (byte) zigZag;
+    }
+
+    private void ensureCapacity(int extra) {
+      if (position + extra > buffer.length) {
+        buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + extra));
+      }
+    }
+
+    private byte[] toByteArray() {
+      return position == buffer.length ? buffer : Arrays.copyOf(buffer, position);
+    }
+  }
+
+  private static final class Reader {
+
+    private final byte[] buffer;
+    private int position;
+
+    private Reader(byte[] buffer) {
+      this.buffer = buffer;
+    }
+
+    private byte readHeader() {
+      byte version = readByte();
+      if (version != VERSION) {
+        throw new IllegalArgumentException("Unsupported ProjectTarget schema version: " + version);
+      }
+
+      byte kind = readByte();
+      if (kind != KIND_SINGLE && kind != KIND_BATCH) {
+        throw new IllegalArgumentException("Unknown ProjectTarget payload kind: " + kind);
+      }
+      return kind;
+    }
+
+    private ProjectTarget readRecord() {
+      int flags = readByte();
+      Integer id = (flags & HAS_ID) != 0 ? Math.toIntExact(readVarLong()) : null;
+      Integer systemId = (flags & HAS_SYSTEM_ID) != 0 ? Math.toIntExact(readVarLong()) : null;
+      Long createdAt = (flags & HAS_CREATED_AT) != 0 ? readVarLong() : null;
+      Long ownerId = (flags & HAS_OWNER_ID) != 0 ? readVarLong() : null;
+      Integer year = (flags & HAS_YEAR) != 0 ? Math.toIntExact(readVarLong()) : null;
+      Boolean deleted = (flags & HAS_DELETED) != 0 ? (flags & DELETED) != 0 : null;
+      return new ProjectTarget(id, systemId, createdAt, ownerId, year, deleted);
+    }
+
+    private byte readByte() {
+      if (position >= buffer.length) {
+        throw new IllegalArgumentException("Truncated ProjectTarget payload");
+      }
+      return buffer[position++];
+    }
+
+    private long readVarLong() {
+      long zigZag = 0;
+      for (int shift = 0; shift < 64; shift += 7) {
+        byte b = readByte();
+        zigZag |= (long) (b & 0x7F) << shift;
+        if ((b & 0x80) == 0) {
+          return (zigZag >>> 1) ^ -(zigZag & 1);
+        }
+      }
+      throw new IllegalArgumentException("Malformed varint in ProjectTarget payload");
+    }
+
+    private int remaining() {
+      return buffer.length - position;
+    }
+
+    private void checkFullyRead() {
+      if (position != buffer.length) {
+        throw new IllegalArgumentException("Unexpected trailing bytes in ProjectTarget payload");
+      }
+    }
+  }
+
+}
@@ -0,0 +1,80 @@
+package com.example.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class ProjectTargetCodecTest {
+
+    @Test
+    void testEncodeAndDecodeSingle() {
+        var target = new ProjectTarget(42, 7, 1_700_000_000_000L, -15L, 2025, true);
+
+        byte[] bytes = ProjectTargetCodec.encode(target);
+
+        assertThat(bytes[0]).isEqualTo(ProjectTargetCodec.VERSION);
+        assertThat(ProjectTargetCodec.isBatch(bytes)).isFalse();
+        assertThat(ProjectTargetCodec.decode(bytes)).isEqualTo(target);
+    }
+
+    @Test
+    void testEncodeAndDecodeBatchWithNulls() {
+        var targets = List.of(
+                new ProjectTarget(1, 2, 3L, 4L, 2024, false),
+                new ProjectTarget(null, null, null, null, null, null),
+                new ProjectTarget(Integer.MIN_VALUE, Integer.MAX_VALUE, Long.MIN_VALUE, Long.MAX_VALUE, 0, true)
+        );
+
+        byte[] bytes = ProjectTargetCodec.encodeAll(targets);
+
+        assertThat(ProjectTargetCodec.isBatch(bytes)).isTrue();
+        assertThat(ProjectTargetCodec.decodeAll(bytes)).isEqualTo(targets);
+    }
+
+    @Test
+    void testDecodeRejectsUnknownVersion() {
+        byte[] bytes = ProjectTargetCodec.encode(new ProjectTarget(1, 2, 3L, 4L, 2024, false));
+        bytes[0] = (byte) (ProjectTargetCodec.VERSION + 1);
+
+        assertThatThrownBy(() -> ProjectTargetCodec.decode(bytes))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("schema version");
+    }
+
+    @Test
+    void testDecodeRejectsTruncatedPayload() {
+        byte[] bytes = ProjectTargetCodec.encode(new ProjectTarget(1, 2, 3L, 4L, 2024, false));
+        byte[] truncated = Arrays.copyOf(bytes, bytes.length - 1);
+
+        assertThatThrownBy(() -> ProjectTargetCodec.decode(truncated))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testEncodedSizeIsSmallerThanJavaSerializationAndJackson() throws IOException {
+        var targets = new ArrayList<ProjectTarget>();
+        for (int i = 0; i < 1000; i++) {
+            targets.add(new ProjectTarget(i + 1, i % 50, 1_700_000_000_000L + i, 10_000L + i % 300, 2020 + i % 6, i % 2 == 0));
+        }
+
+        int codecSize = ProjectTargetCodec.encodeAll(targets).length;
+        int jacksonSize = new ObjectMapper().writeValueAsBytes(targets).length;
+
+        var javaBytes = new ByteArrayOutputStream();
+        try (var output = new ObjectOutputStream(javaBytes)) {
+            output.writeObject(targets);
+        }
+
+        assertThat(codecSize).isLessThan(javaBytes.size() / 2);
+        assertThat(codecSize).isLessThan(jacksonSize / 2);
+    }
+
+}
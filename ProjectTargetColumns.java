@@ -0,0 +1,348 @@
+package com.example.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+
+/**
+ * Immutable columnar snapshot of {@link ProjectTarget} records backed by primitive arrays.
+ * <p>
+ * Each field is kept in its own array and {@code deleted} is packed into a {@link BitSet},
+ * so a snapshot costs a few bytes per row instead of six boxed objects. Row indexes by
+ * {@code ownerId} and {@code year} are built once on creation; scans, filters and grouping
+ * run over row numbers and can be executed in parallel because nothing is mutated after build.
+ */
+public final class ProjectTargetColumns {
+
+  private static final int[] NO_ROWS = new int[0];
+
+  private final int size;
+  private final int[] ids;
+  private final int[] systemIds;
+  private final long[] createdAts;
+  private final long[] ownerIds;
+  private final int[] years;
+  private final BitSet deleted;
+  private final Map<Long, int[]> rowsByOwner;
+  private final Map<Integer, int[]> rowsByYear;
+
+  private ProjectTargetColumns(
+      int size,
+      int[] ids,
+      int[] systemIds,
+      long[] createdAts,
+      long[] ownerIds,
+      int[] years,
+      BitSet deleted
+  ) {
+    this.size = size;
+    this.ids = ids;
+    this.systemIds = systemIds;
+    this.createdAts = createdAts;
+    this.ownerIds = ownerIds;
+    this.years = years;
+    this.deleted = deleted;
+    this.rowsByOwner = index(row -> ownerIds[row]);
+    this.rowsByYear = index(row -> years[row]);
+  }
+
+  /**
+   * Builds a snapshot from records; every record must satisfy the not-null constraints
+   * of {@link ProjectTarget}, otherwise an {@link IllegalArgumentException} is thrown.
+   */
+  public static ProjectTargetColumns of(Collection<ProjectTarget> targets) {
+    // Rows are read by index twice, so a sequential list such as LinkedList is copied first
+    List<ProjectTarget> rows = targets instanceof List<ProjectTarget> list && list instanceof RandomAccess
+        ? list
+        : new ArrayList<>(targets);
+
+    var validation = ProjectTargetBatchValidator.validate(rows);
+    if (!validation.isValid()) {
+      int row = validation.invalidRowIndexes()[0];
+      throw new IllegalArgumentException(
+          validation.invalidCount() + " invalid ProjectTarget rows, first at index "
+              + row + " is missing " + validation.reasons(row)
+      );
+    }
+
+    int size = rows.size();
+    int[] ids = new int[size];
+    int[] systemIds = new int[size];
+    long[] createdAts = new long[size];
+    long[] ownerIds = new long[size];
+    int[] years = new int[size];
+    BitSet deleted = new BitSet(size);
+
+    for (int row = 0; row < size; row++) {
+      var target = rows.get(row);
+      ids[row] = target.id();
+      systemIds[row] = target.systemId();
+      createdAts[row] = target.createdAt();
+      ownerIds[row] = target.ownerId();
+      years[row] = target.year();
+      deleted.set(row, target.deleted());
+    }
+
+    return new ProjectTargetColumns(size, ids, systemIds, createdAts, ownerIds, years, deleted);
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public int id(int row) {
+    return ids[checkRow(row)];
+  }
+
+  public int systemId(int row) {
+    return systemIds[checkRow(row)];
+  }
+
+  public long createdAt(int row) {
+    return createdAts[checkRow(row)];
+  }
+
+  public long ownerId(int row) {
+    return ownerIds[checkRow(row)];
+  }
+
+  public int year(int row) {
+    return years[checkRow(row)];
+  }
+
+  public boolean deleted(int row) {
+    return deleted.get(checkRow(row));
+  }
+
+  public ProjectTarget get(int row) {
+    checkRow(row);
+    return new ProjectTarget(ids[row], systemIds[row], createdAts[row], ownerIds[row], years[row], deleted.get(row));
+  }
+
+  public List<ProjectTarget> toRecords() {
+    List<ProjectTarget> records = new ArrayList<>(size);
+    for (int row = 0; row < size; row++) {
+      records.add(get(row));
+    }
+    return records;
+  }
+
+  /**
+   * Returns a reusable view that must be positioned with {@link Row#moveTo(int)} before it is read.
+   * A view is not thread-safe, use one per thread.
+   */
+  public Row row() {
+    return new Row();
+  }
+
+  public int[] rowsByOwner(long ownerId) {
+    return rowsByOwner.getOrDefault(ownerId, NO_ROWS).clone();
+  }
+
+  public int[] rowsByYear(int year) {
+    return rowsByYear.getOrDefault(year, NO_ROWS).clone();
+  }
+
+  public int[] rowsByOwnerAndYear(long ownerId, int year) {
+    int[] ownerRows = rowsByOwner.getOrDefault(ownerId, NO_ROWS);
+    int[] yearRows = rowsByYear.getOrDefault(year, NO_ROWS);
+    int[] smaller = ownerRows.length <= yearRows.length ? ownerRows : yearRows;
+
+    return IntStream.of(smaller)
+        .filter(row -> ownerIds[row] == ownerId && years[row] == year)
+        .toArray();
+  }
+
+  public IntStream rows(boolean parallel) {
+    var rows = IntStream.range(0, size);
+    return parallel ? rows.parallel() : rows;
+  }
+
+  /**
+   * Returns the ascending row numbers accepted by the predicate.
+   */
+  public int[] filter(IntPredicate predicate, boolean parallel) {
+    return rows(parallel).filter(predicate).toArray();
+  }
+
+  /**
+   * Groups row numbers by key; rows of each group are ascending. Rows are collected into
+   * primitive buffers, only the keys themselves are objects.
+   */
+  public <K> Map<K, int[]> groupBy(IntFunction<K> classifier, boolean parallel) {
+    Map<K, IntBuffer> groups = rows(parallel).collect(
+        HashMap<K, IntBuffer>::new,
+        (map, row) -> map.computeIfAbsent(classifier.apply(row), k -> new IntBuffer()).add(row),
+        (left, right) -> right.forEach((k, rows) -> left.merge(k, rows, IntBuffer::addAll))
+    );
+
+    Map<K, int[]> result = new HashMap<>(groups.size() * 2);
+    groups.forEach((k, rows) -> result.put(k, rows.toArray()));
+    return result;
+  }
+
+  public <K> Map<K, Long> countBy(IntFunction<K> classifier, boolean parallel) {
+    Map<K, long[]> counts = rows(parallel).collect(
+        HashMap<K, long[]>::new,
+        (map, row) -> map.computeIfAbsent(classifier.apply(row), k -> new long[1])[0]++,
+        (left, right) -> right.forEach((k, count) -> left.merge(k, count, (a, b) -> {
+          a[0] += b[0];
+          return a;
+        }))
+    );
+
+    Map<K, Long> result = new HashMap<>(counts.size() * 2);
+    counts.forEach((k, count) -> result.put(k, count[0]));
+    return result;
+  }
+
+  /**
+   * Copies the given rows into a new, independently indexed snapshot.
+   */
+  public ProjectTargetColumns select(int[] rows) {
+    int[] selectedIds = new int[rows.length];
+    int[] selectedSystemIds = new int[rows.length];
+    long[] selectedCreatedAts = new long[rows.length];
+    long[] selectedOwnerIds = new long[rows.length];
+    int[] selectedYears = new int[rows.length];
+    BitSet selectedDeleted = new BitSet(rows.length);
+
+    for (int i = 0; i < rows.length; i++) {
+      int row = checkRow(rows[i]);
+      selectedIds[i] = ids[row];
+      selectedSystemIds[i] = systemIds[row];
+      selectedCreatedAts[i] = createdAts[row];
+      selectedOwnerIds[i] = ownerIds[row];
+      selectedYears[i] = years[row];
+      selectedDeleted.set(i, deleted.get(row));
+    }
+
+    return new ProjectTargetColumns(
+        rows.length,
+        selectedIds,
+        selectedSystemIds,
+        selectedCreatedAts,
+        selectedOwnerIds,
+        selectedYears,
+        selectedDeleted
+    );
+  }
+
+  private <K> Map<K, int[]> index(IntFunction<K> key) {
+    Map<K, int[]> counts = new HashMap<>();
+    for (int row = 0; row < size; row++) {
+      counts.computeIfAbsent(key.apply(row), k -> new int[1])[0]++;
+    }
+
+    Map<K, int[]> index = new HashMap<>(counts.size() * 2);
+    Map<K, int[]> positions = new HashMap<>(counts.size() * 2);
+    counts.forEach((k, count) -> {
+      index.put(k, new int[count[0]]);
+      positions.put(k, new int[1]);
+    });
+
+    for (int row = 0; row < size; row++) {
+      K k = key.apply(row);
+      index.get(k)[positions.get(k)[0]++] = row;
+    }
+
+    return Map.copyOf(index);
+  }
+
+  private int checkRow(int row) {
+    if (row < 0 || row >= size) {
+      throw new IndexOutOfBoundsException("Row " + row + " is out of range for size " + size);
+    }
+    return row;
+  }
+
+  /**
+   * Flyweight view over a single row of the snapshot.
+   */
+  public final class Row {
+
+    private int row = -1;
+
+    private Row() {
+    }
+
+    public Row moveTo(int row) {
+      this.row = checkRow(row);
+      return this;
+    }
+
+    public int index() {
+      return position();
+    }
+
+    public int id() {
+      return ids[position()];
+    }
+
+    public int systemId() {
+      return systemIds[position()];
+    }
+
+    public long createdAt() {
+      return createdAts[position()];
+    }
+
+    public long ownerId() {
+      return ownerIds[position()];
+    }
+
+    public int year() {
+      return years[position()];
+    }
+
+    public boolean deleted() {
+      return deleted.get(position());
+    }
+
+    public ProjectTarget toRecord() {
+      return get(position());
+    }
+
+    private int position() {
+      if (row < 0) {
+        throw new IllegalStateException("Row view is not positioned, call moveTo first");
+      }
+      return row;
+    }
+  }
+
+  private static final class IntBuffer {
+
+    private int[] values = new int[8];
+    private int size;
+
+    private void add(int value) {
+      if (size == values.length) {
+        values = Arrays.copyOf(values, size * 2);
+      }
+      values[size++] = value;
+    }
+
+    private IntBuffer addAll(IntBuffer other) {
+      if (size + other.size > values.length) {
+        values = Arrays.copyOf(values, Math.max(values.length * 2, size + other.size));
+      }
+      System.arraycopy(other.values, 0, values, size, other.size);
+      size += other.size;
+      return this;
+    }
+
+    private int[] toArray() {
+      return Arrays.copyOf(values, size);
+    }
+  }
+
+}
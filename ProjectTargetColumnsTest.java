@@ -0,0 +1,92 @@
+package com.example.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class ProjectTargetColumnsTest {
+
+    private static final List<ProjectTarget> TARGETS = List.of(
+            new ProjectTarget(1, 10, 1_700_000_000_000L, 100L, 2024, false),
+            new ProjectTarget(2, 11, 1_700_000_000_001L, 200L, 2024, true),
+            new ProjectTarget(3, 12, 1_700_000_000_002L, 100L, 2025, false),
+            new ProjectTarget(4, 13, 1_700_000_000_003L, 100L, 2024, true)
+    );
+
+    @Test
+    void testRoundTrip() {
+        var columns = ProjectTargetColumns.of(TARGETS);
+
+        assertThat(columns.size()).isEqualTo(4);
+        assertThat(columns.toRecords()).isEqualTo(TARGETS);
+        assertThat(columns.get(1)).isEqualTo(TARGETS.get(1));
+        assertThat(columns.row().moveTo(3).toRecord()).isEqualTo(TARGETS.get(3));
+    }
+
+    @Test
+    void testRoundTripFromSequentialList() {
+        var columns = ProjectTargetColumns.of(new LinkedList<>(TARGETS));
+
+        assertThat(columns.toRecords()).isEqualTo(TARGETS);
+    }
+
+    @Test
+    void testRejectsIncompleteRecords() {
+        var targets = Arrays.asList(TARGETS.get(0), new ProjectTarget(2, null, 1L, 1L, 2024, false));
+
+        assertThatThrownBy(() -> ProjectTargetColumns.of(targets))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("systemId");
+    }
+
+    @Test
+    void testOwnerAndYearIndexes() {
+        var columns = ProjectTargetColumns.of(TARGETS);
+
+        assertThat(columns.rowsByOwner(100L)).containsExactly(0, 2, 3);
+        assertThat(columns.rowsByYear(2024)).containsExactly(0, 1, 3);
+        assertThat(columns.rowsByOwnerAndYear(100L, 2024)).containsExactly(0, 3);
+        assertThat(columns.rowsByOwner(999L)).isEmpty();
+    }
+
+    @Test
+    void testFilterGroupAndCount() {
+        var columns = ProjectTargetColumns.of(TARGETS);
+
+        assertThat(columns.filter(columns::deleted, true)).containsExactly(1, 3);
+
+        Map<Long, int[]> byOwner = columns.groupBy(columns::ownerId, true);
+        assertThat(byOwner.get(100L)).containsExactly(0, 2, 3);
+        assertThat(byOwner.get(200L)).containsExactly(1);
+
+        assertThat(columns.countBy(columns::year, true)).containsOnly(
+                Map.entry(2024, 3L),
+                Map.entry(2025, 1L)
+        );
+    }
+
+    @Test
+    void testSelect() {
+        var selected = ProjectTargetColumns.of(TARGETS).select(new int[] {3, 1});
+
+        assertThat(selected.toRecords()).containsExactly(TARGETS.get(3), TARGETS.get(1));
+        assertThat(selected.rowsByOwner(100L)).containsExactly(0);
+    }
+
+    @Test
+    void testEmptySnapshot() {
+        var columns = ProjectTargetColumns.of(List.of());
+
+        assertThat(columns.size()).isZero();
+        assertThat(columns.toRecords()).isEmpty();
+        assertThat(columns.groupBy(columns::year, false)).isEmpty();
+        assertThatThrownBy(() -> columns.row().id()).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> columns.row().moveTo(0)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+}
@@ -0,0 +1,52 @@
+package com.example.serializer;
+
+import com.example.model.ProjectTarget;
+import com.example.model.ProjectTargetCodec;
+import java.util.List;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+/**
+ * Cache value serializer for {@link ProjectTarget} and {@code List<ProjectTarget>} entries
+ * backed by {@link ProjectTargetCodec}, e.g.
+ * {@code RedisCacheConfiguration.defaultCacheConfig().serializeValuesWith(fromSerializer(new ProjectTargetRedisSerializer()))}.
+ */
+public class ProjectTargetRedisSerializer implements RedisSerializer<Object> {
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return null;
+        }
+
+        try {
+            if (value instanceof ProjectTarget target) {
+                return ProjectTargetCodec.encode(target);
+            }
+            if (value instanceof List<?> targets) {
+                return ProjectTargetCodec.encodeAll((List<ProjectTarget>) targets);
+            }
+        } catch (IllegalArgumentException | ClassCastException e) {
+            throw new SerializationException("Failed to serialize ProjectTarget cache value", e);
+        }
+
+        throw new SerializationException("Unsupported cache value type: " + value.getClass().getName());
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+
+        try {
+            return ProjectTargetCodec.isBatch(bytes)
+                    ? ProjectTargetCodec.decodeAll(bytes)
+                    : ProjectTargetCodec.decode(bytes);
+        } catch (IllegalArgumentException | ArithmeticException e) {
+            throw new SerializationException("Failed to deserialize ProjectTarget cache value", e);
+        }
+    }
+
+}
@@ -0,0 +1,51 @@
+package com.example.serializer;
+
+import com.example.model.ProjectTarget;
+import com.example.model.ProjectTargetCodec;
+import java.util.List;
+import java.util.function.Function;
+import lombok.experimental.UtilityClass;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Serde;
+import org.apache.kafka.common.serialization.Serdes;
+
+/**
+ * Kafka serdes for {@link ProjectTarget} messages backed by {@link ProjectTargetCodec}.
+ */
+@UtilityClass
+public class ProjectTargetSerdes {
+
+    public static Serde<ProjectTarget> single() {
+        return create(ProjectTargetCodec::encode, ProjectTargetCodec::decode);
+    }
+
+    public static Serde<List<ProjectTarget>> batch() {
+        return create(ProjectTargetCodec::encodeAll, ProjectTargetCodec::decodeAll);
+    }
+
+    private static <T> Serde<T> create(Function<T, byte[]> encoder, Function<byte[], T> decoder) {
+        return Serdes.serdeFrom(
+                (topic, value) -> {
+                    if (value == null) {
+                        return null;
+                    }
+                    try {
+                        return encoder.apply(value);
+                    } catch (IllegalArgumentException e) {
+                        throw new SerializationException("Failed to serialize ProjectTarget for topic '" + topic + "'", e);
+                    }
+                },
+                (topic, bytes) -> {
+                    if (bytes == null) {
+                        return null;
+                    }
+                    try {
+                        return decoder.apply(bytes);
+                    } catch (IllegalArgumentException | ArithmeticException e) {
+                        throw new SerializationException("Failed to deserialize ProjectTarget from topic '" + topic + "'", e);
+                    }
+                }
+        );
+    }
+
+}
@@ -0,0 +1,162 @@
+package com.example.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlConfig;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+@DataJpaTest
+@Testcontainers
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+        "spring.liquibase.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=none"
+})
+// Catalog tables as they exist before the migration, then the migration itself; the script holds
+// plpgsql bodies, so it is sent as one statement and split by the driver
+@Sql(statements = """
+        CREATE TABLE service (
+            id                    BIGSERIAL PRIMARY KEY,
+            title                 TEXT NOT NULL,
+            url                   TEXT NOT NULL,
+            image_path            TEXT,
+            role                  TEXT NOT NULL,
+            is_under_construction BOOLEAN NOT NULL,
+            is_visible            BOOLEAN NOT NULL,
+            facility_codes        INTEGER[] NOT NULL DEFAULT '{0}'
+        );
+        CREATE TABLE service_category (
+            id    BIGSERIAL PRIMARY KEY,
+            title TEXT NOT NULL
+        );
+        CREATE TABLE service_in_category (
+            id          BIGSERIAL PRIMARY KEY,
+            service_id  BIGINT NOT NULL REFERENCES service (id),
+            category_id BIGINT NOT NULL REFERENCES service_category (id),
+            sort_order  INTEGER
+        );
+        INSERT INTO service_category (title) VALUES ('Work Tools'), ('Personal Finance')
+        """)
+@Sql(
+        scripts = "classpath:db/service_catalog_seeding.sql",
+        config = @SqlConfig(separator = ScriptUtils.EOF_STATEMENT_SEPARATOR)
+)
+class ServiceCatalogSeedingTest {
+
+    private static final String CATALOG = """
+            [
+              {"title": "Onboarding Assistant", "role": "employee", "url": "https://example.com/onboarding/",
+               "image_path": "onboarding.svg", "category_title": "Work Tools", "sort_order": 10},
+              {"title": "Pay Schedule", "role": "employee", "url": "https://example.com/payroll/",
+               "image_path": "calendar.svg", "facility_codes": [3, 17],
+               "category_title": "Personal Finance", "sort_order": 3}
+            ]
+            """;
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void testSeedingTwiceCreatesNothingTheSecondTime() {
+        assertThat(seed(CATALOG)).isEqualTo(2);
+        assertThat(seed(CATALOG)).isZero();
+
+        assertThat(count("service")).isEqualTo(2);
+        assertThat(count("service_in_category")).isEqualTo(2);
+    }
+
+    @Test
+    void testServiceListedInTwoCategoriesIsInsertedOnceAndLinkedTwice() {
+        int linked = seed("""
+                [
+                  {"title": "Pay Schedule", "role": "employee", "url": "https://example.com/payroll/",
+                   "category_title": "Personal Finance", "sort_order": 3},
+                  {"title": "Pay Schedule", "role": "employee", "url": "https://example.com/payroll/",
+                   "category_title": "Work Tools", "sort_order": 7}
+                ]
+                """);
+
+        assertThat(linked).isEqualTo(2);
+        assertThat(count("service")).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT sc.title FROM service_in_category sic "
+                        + "JOIN service_category sc ON sc.id = sic.category_id ORDER BY sic.sort_order",
+                String.class
+        )).containsExactly("Personal Finance", "Work Tools");
+    }
+
+    @Test
+    void testExistingServiceIsLinkedWithoutBeingDuplicated() {
+        long existingId = jdbcTemplate.queryForObject(
+                "INSERT INTO service (title, url, role, is_under_construction, is_visible) "
+                        + "VALUES ('Onboarding Assistant', 'https://example.com/onboarding/', 'employee', TRUE, FALSE) "
+                        + "RETURNING id",
+                Long.class
+        );
+
+        assertThat(seed(CATALOG)).isEqualTo(2);
+
+        assertThat(count("service")).isEqualTo(2);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM service_in_category WHERE service_id = ?", Integer.class, existingId
+        )).isEqualTo(1);
+        // Existing services are left untouched
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT is_visible FROM service WHERE id = ?", Boolean.class, existingId
+        )).isFalse();
+    }
+
+    @Test
+    void testMissingFacilityCodesKeepColumnDefault() {
+        seed(CATALOG);
+
+        assertThat(facilityCodes("Onboarding Assistant")).containsExactly(0);
+        assertThat(facilityCodes("Pay Schedule")).containsExactly(3, 17);
+    }
+
+    @Test
+    void testMissingCategoryIsRejected() {
+        assertThatThrownBy(() -> seed("""
+                [
+                  {"title": "Pay Schedule", "role": "employee", "url": "https://example.com/payroll/",
+                   "category_title": "Health Services", "sort_order": 1}
+                ]
+                """))
+                .isInstanceOf(DataAccessException.class)
+                .hasMessageContaining("Service categories not found: Health Services");
+    }
+
+    private int seed(String catalog) {
+        return jdbcTemplate.queryForObject("SELECT seed_service_catalog(?::jsonb)", Integer.class, catalog);
+    }
+
+    private int count(String table) {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM " + table, Integer.class);
+    }
+
+    private Integer[] facilityCodes(String title) {
+        return jdbcTemplate.queryForObject(
+                "SELECT facility_codes FROM service WHERE title = ?",
+                (rs, rowNum) -> (Integer[]) rs.getArray(1).getArray(),
+                title
+        );
+    }
+
+}
@@ -0,0 +1,86 @@
+package com.example.benchmark;
+
+import com.example.common.reactive.BlockingCallExecutor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Load test of {@link BlockingCallExecutor} on virtual threads versus {@code boundedElastic}.
+ * <p>
+ * Several request threads each fan out into concurrent simulated JDBC calls that block for
+ * {@code callMillis}, limited to {@code poolSize} at once as with a real connection pool.
+ * With {@code poolSize=10} the permit is the bottleneck and both modes should match; with
+ * {@code poolSize=400} the limit exceeds the {@code boundedElastic} thread cap of ten per core,
+ * so that scheduler becomes the bottleneck. Throughput mode reports completed fan-outs per
+ * millisecond, sample time mode reports the latency distribution including p99 and p99.9.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Threads(16)
+@Fork(1)
+public class BlockingCallExecutorLoadBenchmark {
+
+    @Param({"virtual-threads", "bounded-elastic"})
+    private String mode;
+
+    @Param({"10", "400"})
+    private int poolSize;
+
+    @Param({"100"})
+    private int fanOut;
+
+    @Param({"20"})
+    private long callMillis;
+
+    private Scheduler scheduler;
+    private BlockingCallExecutor executor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        scheduler = "virtual-threads".equals(mode)
+                ? Schedulers.fromExecutorService(Executors.newVirtualThreadPerTaskExecutor(), "bench-virtual")
+                : Schedulers.newBoundedElastic(
+                        Schedulers.DEFAULT_BOUNDED_ELASTIC_SIZE,
+                        Schedulers.DEFAULT_BOUNDED_ELASTIC_QUEUESIZE,
+                        "bench-elastic"
+                );
+        executor = new BlockingCallExecutor(scheduler, poolSize);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        scheduler.dispose();
+    }
+
+    @Benchmark
+    public Long fanOutRequest() {
+        return Flux.range(0, fanOut)
+                .flatMap(i -> executor.call(() -> {
+                    Thread.sleep(callMillis);
+                    return (long) i;
+                }), fanOut)
+                .reduce(0L, Long::sum)
+                .block();
+    }
+
+}
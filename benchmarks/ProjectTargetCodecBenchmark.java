@@ -0,0 +1,124 @@
+package com.example.benchmark;
+
+import com.example.model.ProjectTarget;
+import com.example.model.ProjectTargetCodec;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares {@link ProjectTargetCodec} with Java serialization and Jackson for a single record
+ * and for a batch. With {@code batchSize = 1} every format encodes the bare record, which is the
+ * path taken by the Redis serializer and {@code ProjectTargetSerdes.single()}. Encoded sizes are
+ * compared in {@code ProjectTargetCodecTest}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProjectTargetCodecBenchmark {
+
+    private static final TypeReference<List<ProjectTarget>> LIST_TYPE = new TypeReference<>() {};
+
+    @Param({"1", "1000"})
+    private int batchSize;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private ArrayList<ProjectTarget> targets;
+    private Object payload;
+    private JavaType payloadType;
+    private byte[] codecBytes;
+    private byte[] javaBytes;
+    private byte[] jsonBytes;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        var random = ThreadLocalRandom.current();
+        targets = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            targets.add(new ProjectTarget(
+                    i + 1,
+                    random.nextInt(1, 50),
+                    1_700_000_000_000L + random.nextInt(1_000_000),
+                    random.nextLong(1, 100_000),
+                    2020 + random.nextInt(6),
+                    random.nextBoolean()
+            ));
+        }
+
+        boolean single = batchSize == 1;
+        payload = single ? targets.get(0) : targets;
+        payloadType = single
+                ? objectMapper.constructType(ProjectTarget.class)
+                : objectMapper.getTypeFactory().constructType(LIST_TYPE);
+
+        codecBytes = codecEncode();
+        javaBytes = javaSerialize(payload);
+        jsonBytes = objectMapper.writeValueAsBytes(payload);
+    }
+
+    @Benchmark
+    public byte[] codecEncode() {
+        return batchSize == 1 ? ProjectTargetCodec.encode(targets.get(0)) : ProjectTargetCodec.encodeAll(targets);
+    }
+
+    @Benchmark
+    public Object codecDecode() {
+        return batchSize == 1 ? ProjectTargetCodec.decode(codecBytes) : ProjectTargetCodec.decodeAll(codecBytes);
+    }
+
+    @Benchmark
+    public byte[] javaEncode() throws IOException {
+        return javaSerialize(payload);
+    }
+
+    @Benchmark
+    public Object javaDecode() throws IOException, ClassNotFoundException {
+        try (var input = new ObjectInputStream(new ByteArrayInputStream(javaBytes))) {
+            return input.readObject();
+        }
+    }
+
+    @Benchmark
+    public byte[] jacksonEncode() throws IOException {
+        return objectMapper.writeValueAsBytes(payload);
+    }
+
+    @Benchmark
+    public Object jacksonDecode() throws IOException {
+        return objectMapper.readValue(jsonBytes, payloadType);
+    }
+
+    private static byte[] javaSerialize(Object value) throws IOException {
+        var bytes = new ByteArrayOutputStream();
+        try (var output = new ObjectOutputStream(bytes)) {
+            output.writeObject(value);
+        }
+        return bytes.toByteArray();
+    }
+
+}
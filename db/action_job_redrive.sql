@@ -0,0 +1,28 @@
+-- liquibase formatted SQL
+-- changeset kuznets_sy:action_job_redrive
+
+-- Track delivery attempts of action jobs so failed sends can be re-driven with backoff.
+ALTER TABLE action_job ADD COLUMN attempt_count INT NOT NULL DEFAULT 0;
+ALTER TABLE action_job ADD COLUMN next_attempt_at TIMESTAMP;
+
+-- Jobs already stuck in ERROR become due immediately; the re-drive batch limit spreads them out.
+UPDATE action_job
+SET next_attempt_at = now()
+WHERE status = 'ERROR';
+
+-- Keep the re-drive polling query on the small set of failed jobs.
+CREATE INDEX idx_action_job_status_next_attempt
+    ON action_job (status, next_attempt_at)
+    WHERE status = 'ERROR';
+
+-- Jobs that exhausted their delivery attempts.
+CREATE TABLE action_job_dead_letter (
+    id               BIGSERIAL PRIMARY KEY,
+    job_id           BIGINT      NOT NULL,
+    message_type     VARCHAR(255),
+    data             TEXT,
+    attempt_count    INT         NOT NULL,
+    created_at       TIMESTAMP,
+    dead_lettered_at TIMESTAMP   NOT NULL DEFAULT now()
+);
+
@@ -0,0 +1,130 @@
+-- liquibase formatted SQL
+-- Must be included before the service catalog changesets that call seed_service_catalog.
+
+-- changeset kuznets_sy:uq_service_title_role_url splitStatements:false
+-- preconditions onFail:MARK_RAN
+-- precondition-sql-check expectedResult:0 SELECT count(*) FROM pg_constraint WHERE conname = 'uq_service_title_role_url'
+
+-- Natural key of a service used by catalog seeding. Duplicates may reference other tables,
+-- so they are reported for manual cleanup instead of being deleted here.
+DO $$
+DECLARE
+    v_duplicates TEXT;
+BEGIN
+    SELECT string_agg(format('(%s, %s, %s)', title, role, url), ', ')
+    INTO v_duplicates
+    FROM (
+        SELECT title, role, url
+        FROM service
+        GROUP BY title, role, url
+        HAVING count(*) > 1
+    ) d;
+
+    IF v_duplicates IS NOT NULL THEN
+        RAISE EXCEPTION 'Duplicate services by (title, role, url) must be merged first: %', v_duplicates;
+    END IF;
+
+    ALTER TABLE service
+        ADD CONSTRAINT uq_service_title_role_url UNIQUE (title, role, url);
+END $$;
+
+-- changeset kuznets_sy:uq_service_in_category_service_category
+-- preconditions onFail:MARK_RAN
+-- precondition-sql-check expectedResult:0 SELECT count(*) FROM pg_constraint WHERE conname = 'uq_service_in_category_service_category'
+
+-- Repeated links of a service to the same category carry no information, keep the first one.
+DELETE FROM service_in_category a
+USING service_in_category b
+WHERE a.service_id = b.service_id
+  AND a.category_id = b.category_id
+  AND a.ctid > b.ctid;
+
+ALTER TABLE service_in_category
+    ADD CONSTRAINT uq_service_in_category_service_category UNIQUE (service_id, category_id);
+
+-- changeset kuznets_sy:seed_service_catalog_function runOnChange:true splitStatements:false
+
+-- Applies a declarative service catalog in one statement. p_catalog is a JSON array of objects with
+-- title, role, url, image_path, facility_codes, category_title and sort_order. Missing services are
+-- inserted and linked to their categories, existing services and links are left untouched.
+-- Entries without facility_codes get the column default, as if the column were omitted.
+-- Returns the number of newly created links.
+CREATE OR REPLACE FUNCTION seed_service_catalog(p_catalog JSONB)
+RETURNS INTEGER AS $$
+DECLARE
+    v_missing_categories      TEXT;
+    v_default_expression      TEXT;
+    v_default_facility_codes  INTEGER[];
+    v_linked                  INTEGER;
+BEGIN
+    SELECT string_agg(DISTINCT c.category_title, ', ')
+    INTO v_missing_categories
+    FROM jsonb_to_recordset(p_catalog) AS c(category_title TEXT)
+    WHERE NOT EXISTS (
+        SELECT 1
+        FROM service_category sc
+        WHERE sc.title = c.category_title
+    );
+
+    IF v_missing_categories IS NOT NULL THEN
+        RAISE EXCEPTION 'Service categories not found: %', v_missing_categories;
+    END IF;
+
+    SELECT pg_get_expr(d.adbin, d.adrelid)
+    INTO v_default_expression
+    FROM pg_attrdef d
+    JOIN pg_attribute a ON a.attrelid = d.adrelid AND a.attnum = d.adnum
+    WHERE d.adrelid = 'service'::regclass
+      AND a.attname = 'facility_codes';
+
+    IF v_default_expression IS NOT NULL THEN
+        EXECUTE 'SELECT ' || v_default_expression INTO v_default_facility_codes;
+    END IF;
+
+    WITH catalog AS (
+        SELECT *
+        FROM jsonb_to_recordset(p_catalog) AS c(
+            title          TEXT,
+            role           TEXT,
+            url            TEXT,
+            image_path     TEXT,
+            facility_codes INTEGER[],
+            category_title TEXT,
+            sort_order     INTEGER
+        )
+    ),
+    inserted AS (
+        INSERT INTO service (
+            title, url, image_path, role, is_under_construction, is_visible, facility_codes
+        )
+        SELECT DISTINCT
+            c.title, c.url, c.image_path, c.role, FALSE, TRUE,
+            COALESCE(c.facility_codes, v_default_facility_codes)
+        FROM catalog c
+        ON CONFLICT (title, role, url) DO NOTHING
+        RETURNING id, title, role, url
+    ),
+    services AS (
+        SELECT id, title, role, url
+        FROM inserted
+        UNION ALL
+        SELECT s.id, s.title, s.role, s.url
+        FROM service s
+        JOIN catalog c ON s.title = c.title AND s.role = c.role AND s.url = c.url
+    ),
+    linked AS (
+        INSERT INTO service_in_category (service_id, category_id, sort_order)
+        SELECT DISTINCT ON (s.id, sc.id) s.id, sc.id, c.sort_order
+        FROM catalog c
+        JOIN services s ON s.title = c.title AND s.role = c.role AND s.url = c.url
+        JOIN service_category sc ON sc.title = c.category_title
+        ON CONFLICT (service_id, category_id) DO NOTHING
+        RETURNING 1
+    )
+    SELECT count(*)
+    INTO v_linked
+    FROM linked;
+
+    RETURN v_linked;
+END;
+$$ LANGUAGE plpgsql;
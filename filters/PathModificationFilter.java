@@ -4,8 +4,8 @@ import com.example.gateway.config.ApplicationConfig;
 import com.example.gateway.config.RouteConfig;
 import com.example.gateway.exception.PermissionException;
 import com.example.gateway.processor.impl.PageResponseProcessor;
-import com.example.gateway.client.RoleBasedPermissionClient;
 import com.example.gateway.dto.FilterDto;
+import com.example.gateway.permission.PermissionContextResolver;
 import com.example.gateway.service.FilterService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -32,26 +32,28 @@ import static com.example.gateway.util.RouteUtils.handlePermissionException;
  * This filter modifies the request path to the appropriate API endpoint.
  * It retrieves the user's roles and, based on those roles, adjusts the request path
  * by applying role-based filters. If no filters are found, the request is not modified.
+ * Roles and filters are taken from the user's shared permission context, see {@link PermissionContextResolver}.
  */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class PathModificationFilter implements GatewayFilterFactory<RouteConfig> {
 
-    private final RoleBasedPermissionClient roleClient;
+    private final PermissionContextResolver permissionContextResolver;
     private final FilterService filterService;
     private final ApplicationConfig applicationConfig;
 
     @Override
     public GatewayFilter apply(RouteConfig config) {
         return (exchange, chain) -> Mono.justOrEmpty(getUserId(exchange))
-            .flatMap(userId -> roleClient.retrieveUserRoles(userId, applicationConfig.getRoleBasedPermissions().getUser())
-                .flatMap(roles -> {
+            .flatMap(userId -> permissionContextResolver.resolve(exchange, userId)
+                .flatMap(context -> {
+                    var roles = context.roles();
                     if (roles.isEmpty()) {
                         return Mono.error(new PermissionException("User '" + userId + "' has no roles assigned"));
                     }
 
-                    var filters = filterService.getFiltersByPermission(config.permission(), roles);
+                    var filters = context.filters(config.permission(), filterService::getFiltersByPermission);
                     if (filters.isEmpty()) {
                         exchange.getAttributes().put(SKIP_RESPONSE_MODIFICATION, true);
                         return chain.filter(exchange);
@@ -6,6 +6,7 @@ import com.example.apigateway.exception.ResponseModificationException;
 import com.example.apigateway.permission.util.Constants.Attribute;
 import com.example.apigateway.processor.ResponseProcessor;
 import com.example.apigateway.dto.UserRoleDto;
+import com.example.gateway.permission.UserPermissionContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.reactivestreams.Publisher;
@@ -23,6 +24,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.BiConsumer;
+import java.util.function.Supplier;
 
 import static com.example.apigateway.util.Constants.Attribute.RESPONSE_PROCESSOR;
 import static com.example.apigateway.util.Constants.Attribute.SKIP_RESPONSE_MODIFICATION;
@@ -38,6 +40,7 @@ import static org.springframework.core.io.buffer.DataBufferUtils.release;
  * based on the user's roles and permissions: it nullifies all fields of the response object
  * except those that are present in the list of permissions. If the attribute SKIP_RESPONSE_MODIFICATION
  * is set to true, the filter skips the modification of the original response.
+ * Permissions are reused from the {@link UserPermissionContext} attached to the exchange when present.
  * <p>
  * Required attributes: {@link Attribute#USER_ROLES} and {@link Attribute#RESPONSE_PROCESSOR}
  */
@@ -55,9 +58,15 @@ public class ResponseModificationFilter implements GatewayFilter {
         }
 
         if (exchange.getAttribute(RESPONSE_PROCESSOR) instanceof ResponseProcessor responseProcessor) {
+            var permissionContext = UserPermissionContext.fromExchange(exchange);
+            List<UserRoleDto> roles = exchange.getAttribute(USER_ROLES);
+            Supplier<Set<String>> permissions = permissionContext != null
+                ? permissionContext::permissions
+                : () -> getMatchedPermissionsFromRoles(roles);
+
             ServerHttpResponseDecorator decoratedResponse = createResponseDecorator(
                 exchange.getResponse(),
-                exchange.getAttribute(USER_ROLES),
+                permissions,
                 responseProcessor::process
             );
 
@@ -73,7 +82,7 @@ public class ResponseModificationFilter implements GatewayFilter {
 
     private ServerHttpResponseDecorator createResponseDecorator(
         ServerHttpResponse originalResponse,
-        List<UserRoleDto> roles,
+        Supplier<Set<String>> permissionsSupplier,
         BiConsumer<Set<String>, Map<String, Object>> responseProcessor
     ) {
         return new ServerHttpResponseDecorator(originalResponse) {
@@ -87,7 +96,7 @@ public class ResponseModificationFilter implements GatewayFilter {
                     release(dataBuffer);
 
                     try {
-                        Set<String> permissions = getMatchedPermissionsFromRoles(roles);
+                        Set<String> permissions = permissionsSupplier.get();
                         log.debug("Matched permissions: '{}'", permissions);
 
                         Map<String, Object> responseMap = objectMapper.readValue(
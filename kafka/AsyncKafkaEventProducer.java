@@ -0,0 +1,193 @@
+package com.example.service.kafka;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.avro.specific.SpecificRecord;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Non-blocking counterpart of {@link KafkaEventProducer}. Sends are submitted without waiting
+ * for acknowledgements, while the number of unacknowledged sends is bounded by
+ * {@code app.kafka.producer.max-in-flight} to apply backpressure on the caller.
+ * <p>
+ * The producer owns its template, so its batching, compression and idempotence settings do not
+ * replace the application-wide Kafka producer. Sends are issued on a dedicated scheduler: completions
+ * arrive on the Kafka network thread, and {@code send()} may block there while the buffer is full.
+ */
+@Service
+@Slf4j
+public class AsyncKafkaEventProducer implements DisposableBean {
+
+    private final KafkaTemplate<String, SpecificRecord> kafkaTemplate;
+    private final KafkaProducerMetrics metrics;
+    private final int maxInFlight;
+    private final Scheduler sendScheduler;
+
+    @Autowired
+    public AsyncKafkaEventProducer(
+            KafkaProperties kafkaProperties,
+            KafkaProducerMetrics metrics,
+            @Value("${app.kafka.producer.max-in-flight:256}") int maxInFlight,
+            @Value("${app.kafka.producer.linger-ms:20}") int lingerMs,
+            @Value("${app.kafka.producer.batch-size:65536}") int batchSize,
+            @Value("${app.kafka.producer.compression-type:lz4}") String compressionType
+    ) {
+        this(
+                new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(
+                        producerProperties(kafkaProperties, lingerMs, batchSize, compressionType)
+                )),
+                metrics,
+                maxInFlight,
+                Schedulers.newSingle("kafka-async-send")
+        );
+    }
+
+    AsyncKafkaEventProducer(
+            KafkaTemplate<String, SpecificRecord> kafkaTemplate,
+            KafkaProducerMetrics metrics,
+            int maxInFlight,
+            Scheduler sendScheduler
+    ) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.metrics = metrics;
+        this.maxInFlight = maxInFlight;
+        this.sendScheduler = sendScheduler;
+    }
+
+    public CompletableFuture<SendResult<String, SpecificRecord>> produceAsync(
+            String topic,
+            String key,
+            SpecificRecord event
+    ) {
+        long start = metrics.sendStarted();
+        try {
+            var future = kafkaTemplate.send(topic, key, event);
+            // Registered on the template's own future, which nobody cancels, so a cancelled caller
+            // still releases its in-flight count once Kafka acknowledges or fails the record
+            future.whenComplete((result, ex) -> metrics.sendFinished(start, ex == null));
+            return future;
+        } catch (RuntimeException e) {
+            metrics.sendFinished(start, false);
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Sends one event per item and emits an outcome for each of them; a failed send
+     * is reported as an outcome instead of terminating the flux.
+     */
+    public <T> Flux<SendOutcome<T>> produceAll(
+            String topic,
+            Collection<T> items,
+            Function<T, String> keyExtractor,
+            Function<T, SpecificRecord> eventMapper
+    ) {
+        metrics.recordBatch(items.size());
+        return produce(topic, Flux.fromIterable(items), keyExtractor, eventMapper);
+    }
+
+    /**
+     * Like {@link #produceAll(String, Collection, Function, Function)}, but no new send is started once
+     * {@code submitWindow} has elapsed. Sends already started are awaited, so the flux completes after
+     * every started send is acknowledged or failed, and items that were never started have no outcome.
+     */
+    public <T> Flux<SendOutcome<T>> produceAll(
+            String topic,
+            Collection<T> items,
+            Function<T, String> keyExtractor,
+            Function<T, SpecificRecord> eventMapper,
+            Duration submitWindow
+    ) {
+        metrics.recordBatch(items.size());
+        return produce(topic, Flux.fromIterable(items).take(submitWindow), keyExtractor, eventMapper);
+    }
+
+    private <T> Flux<SendOutcome<T>> produce(
+            String topic,
+            Flux<T> items,
+            Function<T, String> keyExtractor,
+            Function<T, SpecificRecord> eventMapper
+    ) {
+        return items
+                .flatMap(item -> Mono.defer(() -> {
+                            String key = keyExtractor.apply(item);
+                            SpecificRecord event = eventMapper.apply(item);
+                            // A cancelled subscriber must not cancel the send, Kafka delivers the record anyway
+                            return Mono.fromFuture(() -> produceAsync(topic, key, event), true)
+                                    .map(result -> SendOutcome.success(item, key))
+                                    .onErrorResume(ex -> {
+                                        log.warn("Failed to send event with key '{}' to topic '{}'", key, topic, ex);
+                                        return Mono.just(SendOutcome.failure(item, key, ex));
+                                    });
+                        })
+                        .onErrorResume(ex -> {
+                            log.warn("Failed to prepare event for topic '{}'", topic, ex);
+                            return Mono.just(SendOutcome.failure(item, null, ex));
+                        })
+                        // Replenishment is triggered from the Kafka callback thread, the next send must not run there
+                        .subscribeOn(sendScheduler),
+                        maxInFlight
+                );
+    }
+
+    @Override
+    public void destroy() {
+        sendScheduler.dispose();
+        if (kafkaTemplate.getProducerFactory() instanceof DisposableBean producerFactory) {
+            try {
+                producerFactory.destroy();
+            } catch (Exception e) {
+                log.warn("Failed to close async Kafka producer factory", e);
+            }
+        }
+    }
+
+    private static Map<String, Object> producerProperties(
+            KafkaProperties kafkaProperties,
+            int lingerMs,
+            int batchSize,
+            String compressionType
+    ) {
+        Map<String, Object> properties = kafkaProperties.buildProducerProperties(null);
+        properties.put(ProducerConfig.LINGER_MS_CONFIG, lingerMs);
+        properties.put(ProducerConfig.BATCH_SIZE_CONFIG, batchSize);
+        properties.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, compressionType);
+        // Idempotence requires acks=all and at most 5 in-flight requests per connection
+        properties.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        properties.put(ProducerConfig.ACKS_CONFIG, "all");
+        properties.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, 5);
+        return properties;
+    }
+
+    public record SendOutcome<T>(T item, String key, Throwable error) {
+
+        static <T> SendOutcome<T> success(T item, String key) {
+            return new SendOutcome<>(item, key, null);
+        }
+
+        static <T> SendOutcome<T> failure(T item, String key, Throwable error) {
+            return new SendOutcome<>(item, key, error);
+        }
+
+        public boolean isSuccess() {
+            return error == null;
+        }
+    }
+
+}
@@ -0,0 +1,177 @@
+package com.example.service.kafka;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import org.apache.avro.specific.SpecificRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import reactor.core.scheduler.Schedulers;
+
+class AsyncKafkaEventProducerTest {
+
+    private static final int MAX_IN_FLIGHT = 4;
+    private static final String NETWORK_THREAD = "kafka-producer-network-thread";
+
+    @SuppressWarnings("unchecked")
+    private final KafkaTemplate<String, SpecificRecord> kafkaTemplate = mock(KafkaTemplate.class);
+    private final BlockingQueue<CompletableFuture<SendResult<String, SpecificRecord>>> pendingSends =
+            new LinkedBlockingQueue<>();
+    private final Set<String> sendThreads = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxObservedInFlight = new AtomicInteger();
+    private final KafkaProducerMetrics metrics = new KafkaProducerMetrics(new SimpleMeterRegistry());
+
+    private AsyncKafkaEventProducer producer;
+    private Thread networkThread;
+
+    @BeforeEach
+    void setUp() {
+        producer = new AsyncKafkaEventProducer(
+                kafkaTemplate,
+                metrics,
+                MAX_IN_FLIGHT,
+                Schedulers.newSingle("test-send")
+        );
+
+        when(kafkaTemplate.send(anyString(), anyString(), any())).thenAnswer(invocation -> {
+            sendThreads.add(Thread.currentThread().getName());
+            maxObservedInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            var future = new CompletableFuture<SendResult<String, SpecificRecord>>();
+            pendingSends.add(future);
+            return future;
+        });
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (networkThread != null) {
+            networkThread.interrupt();
+            networkThread.join(1000);
+        }
+        producer.destroy();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testProduceAllBoundsInFlightSendsAndKeepsThemOffCallbackThread() {
+        List<Integer> items = IntStream.range(0, MAX_IN_FLIGHT * 5).boxed().toList();
+        SendResult<String, SpecificRecord> sendResult = mock(SendResult.class);
+        startNetworkThread(future -> future.complete(sendResult));
+
+        var outcomes = producer.produceAll("topic", items, String::valueOf, item -> mock(SpecificRecord.class))
+                .collectList()
+                .block(Duration.ofSeconds(10));
+
+        assertThat(outcomes).hasSize(items.size()).allMatch(AsyncKafkaEventProducer.SendOutcome::isSuccess);
+        assertThat(maxObservedInFlight.get()).isLessThanOrEqualTo(MAX_IN_FLIGHT);
+        assertThat(sendThreads).noneMatch(name -> name.startsWith(NETWORK_THREAD));
+    }
+
+    @Test
+    void testProduceAllReportsFailuresAsOutcomes() {
+        List<Integer> items = IntStream.range(0, MAX_IN_FLIGHT * 2).boxed().toList();
+        startNetworkThread(future -> future.completeExceptionally(new IllegalStateException("broker down")));
+
+        var outcomes = producer.produceAll("topic", items, String::valueOf, item -> mock(SpecificRecord.class))
+                .collectList()
+                .block(Duration.ofSeconds(10));
+
+        assertThat(outcomes).hasSize(items.size()).noneMatch(AsyncKafkaEventProducer.SendOutcome::isSuccess);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testCancelledSendsStillReleaseInFlightMetric() {
+        List<Integer> items = IntStream.range(0, MAX_IN_FLIGHT).boxed().toList();
+        SendResult<String, SpecificRecord> sendResult = mock(SendResult.class);
+
+        var subscription = producer.produceAll("topic", items, String::valueOf, item -> mock(SpecificRecord.class))
+                .subscribe();
+        awaitInFlight(MAX_IN_FLIGHT);
+
+        subscription.dispose();
+        startNetworkThread(future -> future.complete(sendResult));
+
+        awaitInFlight(0);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testProduceAllStopsStartingSendsAfterSubmitWindow() {
+        List<Integer> items = IntStream.range(0, MAX_IN_FLIGHT * 5).boxed().toList();
+        SendResult<String, SpecificRecord> sendResult = mock(SendResult.class);
+        // The broker only acknowledges after the window, so nothing beyond the first in-flight sends starts
+        startNetworkThread(future -> {
+            sleep(300);
+            future.complete(sendResult);
+        });
+
+        var outcomes = producer.produceAll(
+                        "topic",
+                        items,
+                        String::valueOf,
+                        item -> mock(SpecificRecord.class),
+                        Duration.ofMillis(100)
+                )
+                .collectList()
+                .block(Duration.ofSeconds(10));
+
+        assertThat(outcomes).hasSize(MAX_IN_FLIGHT).allMatch(AsyncKafkaEventProducer.SendOutcome::isSuccess);
+        awaitInFlight(0);
+    }
+
+    private void awaitInFlight(int expected) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (metrics.inFlight() != expected && System.nanoTime() < deadline) {
+            sleep(10);
+        }
+        assertThat(metrics.inFlight()).isEqualTo(expected);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void startNetworkThread(
+            Consumer<CompletableFuture<SendResult<String, SpecificRecord>>> completion
+    ) {
+        networkThread = new Thread(() -> {
+            try {
+                while (!Thread.currentThread().isInterrupted()) {
+                    var future = pendingSends.poll(100, TimeUnit.MILLISECONDS);
+                    if (future != null) {
+                        inFlight.decrementAndGet();
+                        completion.accept(future);
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, NETWORK_THREAD);
+        networkThread.start();
+    }
+
+}
@@ -0,0 +1,57 @@
+package com.example.service.kafka;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.stereotype.Component;
+
+/**
+ * Micrometer meters of the asynchronous Kafka producer: current in-flight sends,
+ * size of submitted batches and send latency split by result.
+ */
+@Component
+public class KafkaProducerMetrics {
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final DistributionSummary batchSize;
+    private final Timer successLatency;
+    private final Timer failureLatency;
+
+    public KafkaProducerMetrics(MeterRegistry registry) {
+        registry.gauge("app.kafka.producer.in.flight", inFlight);
+        this.batchSize = DistributionSummary.builder("app.kafka.producer.batch.size")
+                .description("Number of events submitted in one producer batch")
+                .register(registry);
+        this.successLatency = latencyTimer(registry, "success");
+        this.failureLatency = latencyTimer(registry, "failure");
+    }
+
+    public void recordBatch(int size) {
+        batchSize.record(size);
+    }
+
+    public long sendStarted() {
+        inFlight.incrementAndGet();
+        return System.nanoTime();
+    }
+
+    public void sendFinished(long startNanos, boolean success) {
+        inFlight.decrementAndGet();
+        (success ? successLatency : failureLatency).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    private static Timer latencyTimer(MeterRegistry registry, String result) {
+        return Timer.builder("app.kafka.producer.send.latency")
+                .description("Time from send submission to broker acknowledgement")
+                .tag("result", result)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(registry);
+    }
+
+}
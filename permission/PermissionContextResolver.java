@@ -0,0 +1,87 @@
+package com.example.gateway.permission;
+
+import com.example.gateway.client.RoleBasedPermissionBatchClient;
+import com.example.gateway.client.RoleBasedPermissionClient;
+import com.example.gateway.config.ApplicationConfig;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * Resolves the {@link UserPermissionContext} of a request once and attaches it to the exchange.
+ * <p>
+ * Contexts are shared per user for {@code app.permissions.context-ttl}, which defaults to the
+ * duration of a page render, so the routes one page fans out to share a single roles call; concurrent
+ * requests for the same user wait on the same call. Failed or empty lookups are not cached, and the
+ * cache is bounded by {@code app.permissions.max-cached-contexts}.
+ */
+@Component
+@Slf4j
+public class PermissionContextResolver {
+
+    private final RoleBasedPermissionClient roleClient;
+    private final RoleBasedPermissionBatchClient batchRoleClient;
+    private final ApplicationConfig applicationConfig;
+    private final AsyncCache<String, UserPermissionContext> contexts;
+
+    public PermissionContextResolver(
+            RoleBasedPermissionClient roleClient,
+            RoleBasedPermissionBatchClient batchRoleClient,
+            ApplicationConfig applicationConfig,
+            @Value("${app.permissions.context-ttl:PT2S}") Duration contextTtl,
+            @Value("${app.permissions.max-cached-contexts:10000}") long maxCachedContexts
+    ) {
+        this.roleClient = roleClient;
+        this.batchRoleClient = batchRoleClient;
+        this.applicationConfig = applicationConfig;
+        this.contexts = Caffeine.newBuilder()
+                .expireAfterWrite(contextTtl)
+                .maximumSize(maxCachedContexts)
+                .buildAsync();
+    }
+
+    public Mono<UserPermissionContext> resolve(ServerWebExchange exchange, String userId) {
+        var attached = UserPermissionContext.fromExchange(exchange);
+        if (attached != null && attached.userId().equals(userId)) {
+            return Mono.just(attached);
+        }
+
+        // A failed or null future is removed by the cache, so the next request retries the lookup.
+        // The future is shared by every route waiting on this user, so one cancelled route must not cancel it.
+        return Mono.fromFuture(() -> contexts.get(userId, (key, executor) -> loadContext(key)), true)
+                .doOnNext(context -> exchange.getAttributes().put(UserPermissionContext.ATTRIBUTE, context));
+    }
+
+    /**
+     * Resolves contexts of many users with one bulk roles call and keeps them for later requests.
+     */
+    public Mono<Map<String, UserPermissionContext>> resolveAll(Collection<String> userIds) {
+        return batchRoleClient.retrieveUsersRoles(userIds, applicationConfig.getRoleBasedPermissions().getUser())
+                .map(rolesByUser -> rolesByUser.entrySet().stream()
+                        .map(entry -> new UserPermissionContext(entry.getKey(), entry.getValue()))
+                        .collect(Collectors.toMap(UserPermissionContext::userId, context -> context)))
+                .doOnNext(resolved -> resolved.forEach((userId, context) ->
+                        contexts.put(userId, CompletableFuture.completedFuture(context))));
+    }
+
+    public void evict(String userId) {
+        contexts.synchronous().invalidate(userId);
+        log.debug("Evicted permission context of user '{}'", userId);
+    }
+
+    private CompletableFuture<UserPermissionContext> loadContext(String userId) {
+        return roleClient.retrieveUserRoles(userId, applicationConfig.getRoleBasedPermissions().getUser())
+                .map(roles -> new UserPermissionContext(userId, roles))
+                .toFuture();
+    }
+
+}
@@ -0,0 +1,162 @@
+package com.example.gateway.permission;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.gateway.client.RoleBasedPermissionBatchClient;
+import com.example.gateway.client.RoleBasedPermissionClient;
+import com.example.gateway.config.ApplicationConfig;
+import com.example.gateway.dto.UserRoleDto;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+class PermissionContextResolverTest {
+
+    private static final String USER_ID = "user-1";
+    private static final String SERVICE_USER = "gateway";
+
+    private final RoleBasedPermissionClient roleClient = mock(RoleBasedPermissionClient.class);
+    private final RoleBasedPermissionBatchClient batchRoleClient = mock(RoleBasedPermissionBatchClient.class);
+    private final ApplicationConfig applicationConfig = mock(ApplicationConfig.class, RETURNS_DEEP_STUBS);
+    private final List<UserRoleDto> roles = List.of(mock(UserRoleDto.class));
+
+    private PermissionContextResolver resolver;
+
+    @BeforeEach
+    void setUp() {
+        when(applicationConfig.getRoleBasedPermissions().getUser()).thenReturn(SERVICE_USER);
+        resolver = new PermissionContextResolver(
+                roleClient,
+                batchRoleClient,
+                applicationConfig,
+                Duration.ofMinutes(1),
+                100
+        );
+    }
+
+    @Test
+    void testContextIsSharedAcrossRequestsAndAttachedToExchange() {
+        var calls = new AtomicInteger();
+        when(roleClient.retrieveUserRoles(USER_ID, SERVICE_USER))
+                .thenReturn(Mono.fromSupplier(() -> {
+                    calls.incrementAndGet();
+                    return roles;
+                }).delayElement(Duration.ofMillis(50)));
+
+        var firstExchange = exchange();
+        var secondExchange = exchange();
+        var contexts = Mono.zip(
+                resolver.resolve(firstExchange, USER_ID),
+                resolver.resolve(secondExchange, USER_ID)
+        ).block(Duration.ofSeconds(5));
+
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(contexts.getT1()).isSameAs(contexts.getT2());
+        assertThat(contexts.getT1().roles()).isEqualTo(roles);
+        assertThat(UserPermissionContext.fromExchange(firstExchange)).isSameAs(contexts.getT1());
+        assertThat(UserPermissionContext.fromExchange(secondExchange)).isSameAs(contexts.getT1());
+
+        resolver.resolve(exchange(), USER_ID).block(Duration.ofSeconds(5));
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void testCancelledRouteDoesNotCancelSharedLookup() throws Exception {
+        var calls = new AtomicInteger();
+        when(roleClient.retrieveUserRoles(USER_ID, SERVICE_USER))
+                .thenReturn(Mono.fromSupplier(() -> {
+                    calls.incrementAndGet();
+                    return roles;
+                }).delayElement(Duration.ofMillis(200)));
+
+        var waitingRoute = resolver.resolve(exchange(), USER_ID).toFuture();
+        var cancelledRoute = resolver.resolve(exchange(), USER_ID).subscribe();
+        cancelledRoute.dispose();
+
+        assertThat(waitingRoute.get(5, TimeUnit.SECONDS).roles()).isEqualTo(roles);
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void testContextAttachedToExchangeIsReused() {
+        var exchange = exchange();
+        var context = new UserPermissionContext(USER_ID, roles);
+        exchange.getAttributes().put(UserPermissionContext.ATTRIBUTE, context);
+
+        StepVerifier.create(resolver.resolve(exchange, USER_ID))
+                .expectNext(context)
+                .verifyComplete();
+
+        verify(roleClient, never()).retrieveUserRoles(anyString(), anyString());
+    }
+
+    @Test
+    void testErrorsAreNotCached() {
+        when(roleClient.retrieveUserRoles(USER_ID, SERVICE_USER))
+                .thenReturn(Mono.error(new IllegalStateException("permission service down")))
+                .thenReturn(Mono.just(roles));
+
+        StepVerifier.create(resolver.resolve(exchange(), USER_ID))
+                .verifyError(IllegalStateException.class);
+        StepVerifier.create(resolver.resolve(exchange(), USER_ID).map(UserPermissionContext::roles))
+                .expectNext(roles)
+                .verifyComplete();
+
+        verify(roleClient, times(2)).retrieveUserRoles(USER_ID, SERVICE_USER);
+    }
+
+    @Test
+    void testEmptyLookupIsNotCached() {
+        when(roleClient.retrieveUserRoles(USER_ID, SERVICE_USER))
+                .thenReturn(Mono.empty())
+                .thenReturn(Mono.just(roles));
+
+        StepVerifier.create(resolver.resolve(exchange(), USER_ID)).verifyComplete();
+        StepVerifier.create(resolver.resolve(exchange(), USER_ID).map(UserPermissionContext::roles))
+                .expectNext(roles)
+                .verifyComplete();
+    }
+
+    @Test
+    void testEvictForcesReload() {
+        when(roleClient.retrieveUserRoles(USER_ID, SERVICE_USER)).thenReturn(Mono.just(roles));
+
+        resolver.resolve(exchange(), USER_ID).block(Duration.ofSeconds(5));
+        resolver.evict(USER_ID);
+        resolver.resolve(exchange(), USER_ID).block(Duration.ofSeconds(5));
+
+        verify(roleClient, times(2)).retrieveUserRoles(USER_ID, SERVICE_USER);
+    }
+
+    @Test
+    void testResolveAllPrimesCache() {
+        when(batchRoleClient.retrieveUsersRoles(List.of(USER_ID), SERVICE_USER))
+                .thenReturn(Mono.just(Map.of(USER_ID, roles)));
+
+        var resolved = resolver.resolveAll(List.of(USER_ID)).block(Duration.ofSeconds(5));
+        var context = resolver.resolve(exchange(), USER_ID).block(Duration.ofSeconds(5));
+
+        assertThat(context).isSameAs(resolved.get(USER_ID));
+        verify(roleClient, never()).retrieveUserRoles(anyString(), anyString());
+    }
+
+    private static MockServerWebExchange exchange() {
+        return MockServerWebExchange.from(MockServerHttpRequest.get("/api/goals"));
+    }
+
+}
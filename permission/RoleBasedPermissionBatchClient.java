@@ -0,0 +1,45 @@
+package com.example.gateway.client;
+
+import com.example.gateway.dto.UserRoleDto;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+/**
+ * Bulk counterpart of {@link RoleBasedPermissionClient}: resolves the roles of many users
+ * in a single call, intended for server-side batch jobs and cache warm-up.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RoleBasedPermissionBatchClient {
+
+    private static final ParameterizedTypeReference<Map<String, List<UserRoleDto>>> ROLES_BY_USER =
+            new ParameterizedTypeReference<>() {};
+
+    private final WebClient roleBasedPermissionWebClient;
+
+    public Mono<Map<String, List<UserRoleDto>>> retrieveUsersRoles(Collection<String> userIds, String user) {
+        if (userIds.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+
+        log.debug("Retrieving roles for '{}' users in one call", userIds.size());
+
+        return roleBasedPermissionWebClient.post()
+                .uri("/roles/batch")
+                .bodyValue(new BatchRolesRequest(user, List.copyOf(userIds)))
+                .retrieve()
+                .bodyToMono(ROLES_BY_USER);
+    }
+
+    record BatchRolesRequest(String user, List<String> userIds) {
+    }
+
+}
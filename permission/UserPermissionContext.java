@@ -0,0 +1,61 @@
+package com.example.gateway.permission;
+
+import static com.example.gateway.util.PermissionUtils.getMatchedPermissionsFromRoles;
+
+import com.example.gateway.dto.FilterDto;
+import com.example.gateway.dto.UserRoleDto;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import org.springframework.web.server.ServerWebExchange;
+
+/**
+ * Roles of a user together with everything derived from them: matched permissions
+ * and role-based filters per route permission. Derived values are computed on first use
+ * and then shared by every gateway route that serves the same user.
+ */
+public final class UserPermissionContext {
+
+    public static final String ATTRIBUTE = UserPermissionContext.class.getName();
+
+    private final String userId;
+    private final List<UserRoleDto> roles;
+    private final Map<String, List<FilterDto>> filtersByPermission = new ConcurrentHashMap<>();
+    private volatile Set<String> permissions;
+
+    public UserPermissionContext(String userId, List<UserRoleDto> roles) {
+        this.userId = userId;
+        this.roles = List.copyOf(roles);
+    }
+
+    public static UserPermissionContext fromExchange(ServerWebExchange exchange) {
+        return exchange.getAttribute(ATTRIBUTE) instanceof UserPermissionContext context ? context : null;
+    }
+
+    public String userId() {
+        return userId;
+    }
+
+    public List<UserRoleDto> roles() {
+        return roles;
+    }
+
+    public Set<String> permissions() {
+        Set<String> matched = permissions;
+        if (matched == null) {
+            matched = Set.copyOf(getMatchedPermissionsFromRoles(roles));
+            permissions = matched;
+        }
+        return matched;
+    }
+
+    public List<FilterDto> filters(
+            String permission,
+            BiFunction<String, List<UserRoleDto>, List<FilterDto>> filterResolver
+    ) {
+        return filtersByPermission.computeIfAbsent(permission, key -> filterResolver.apply(key, roles));
+    }
+
+}
@@ -0,0 +1,145 @@
+package com.example.common.reactive;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.scheduler.Scheduler;
+
+/**
+ * Runs blocking calls, such as JPA repository access, off the event loop on a dedicated scheduler.
+ * The number of calls executing at once is bounded to the JDBC pool size. Waiting for a permit is
+ * non-blocking: queued calls are parked as subscribers, not as threads, and are scheduled only
+ * once a permit is handed to them in FIFO order.
+ * <p>
+ * A permit is held for as long as the blocking call runs, even if the caller cancels meanwhile:
+ * JDBC calls mostly ignore interrupts and keep their connection busy until they return. Calls
+ * cancelled before they started give their permit back right away and are never executed.
+ */
+public class BlockingCallExecutor {
+
+    private final Scheduler scheduler;
+    private final Queue<Task<?>> waiters = new ArrayDeque<>();
+    private int availablePermits;
+
+    public BlockingCallExecutor(Scheduler scheduler, int maxConcurrency) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("Max concurrency must be positive: " + maxConcurrency);
+        }
+        this.scheduler = scheduler;
+        this.availablePermits = maxConcurrency;
+    }
+
+    /**
+     * Wraps a blocking call into a lazy {@link Mono}; a {@code null} result completes empty.
+     */
+    public <T> Mono<T> call(Callable<T> blockingCall) {
+        return Mono.create(sink -> {
+            var task = new Task<>(blockingCall, sink);
+            boolean granted;
+            synchronized (this) {
+                granted = availablePermits > 0;
+                if (granted) {
+                    availablePermits--;
+                    task.state.set(Task.GRANTED);
+                } else {
+                    waiters.add(task);
+                }
+            }
+
+            sink.onCancel(() -> cancel(task));
+            if (granted) {
+                start(task);
+            }
+        });
+    }
+
+    public <T> Flux<T> callMany(Callable<? extends Iterable<T>> blockingCall) {
+        return call(blockingCall).flatMapIterable(Function.identity());
+    }
+
+    public synchronized int availablePermits() {
+        return availablePermits;
+    }
+
+    private void start(Task<?> task) {
+        try {
+            scheduler.schedule(() -> run(task));
+        } catch (RuntimeException e) {
+            if (task.state.compareAndSet(Task.GRANTED, Task.DONE)) {
+                releasePermit();
+            }
+            task.sink.error(e);
+        }
+    }
+
+    private <T> void run(Task<T> task) {
+        if (!task.state.compareAndSet(Task.GRANTED, Task.RUNNING)) {
+            // Cancelled before it started, the permit was already given back
+            return;
+        }
+
+        T result;
+        try {
+            result = task.blockingCall.call();
+        } catch (Throwable e) {
+            finish(task);
+            task.sink.error(e);
+            return;
+        }
+        finish(task);
+        task.sink.success(result);
+    }
+
+    private void finish(Task<?> task) {
+        task.state.set(Task.DONE);
+        releasePermit();
+    }
+
+    private void cancel(Task<?> task) {
+        synchronized (this) {
+            if (waiters.remove(task)) {
+                return;
+            }
+        }
+        // A running call keeps its permit until it returns, see run()
+        if (task.state.compareAndSet(Task.GRANTED, Task.DONE)) {
+            releasePermit();
+        }
+    }
+
+    private void releasePermit() {
+        Task<?> next;
+        synchronized (this) {
+            next = waiters.poll();
+            if (next == null) {
+                availablePermits++;
+                return;
+            }
+            next.state.set(Task.GRANTED);
+        }
+        start(next);
+    }
+
+    private static final class Task<T> {
+
+        private static final int WAITING = 0;
+        private static final int GRANTED = 1;
+        private static final int RUNNING = 2;
+        private static final int DONE = 3;
+
+        private final Callable<T> blockingCall;
+        private final MonoSink<T> sink;
+        private final AtomicInteger state = new AtomicInteger(WAITING);
+
+        private Task(Callable<T> blockingCall, MonoSink<T> sink) {
+            this.blockingCall = blockingCall;
+            this.sink = sink;
+        }
+    }
+
+}
@@ -0,0 +1,137 @@
+package com.example.common.reactive;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+class BlockingCallExecutorTest {
+
+    private final Scheduler scheduler = Schedulers.newBoundedElastic(16, 1000, "test-blocking");
+    private final BlockingCallExecutor executor = new BlockingCallExecutor(scheduler, 2);
+
+    @AfterEach
+    void tearDown() {
+        scheduler.dispose();
+    }
+
+    @Test
+    void testQueuedCallsDoNotOccupySchedulerThreads() {
+        var running = new AtomicInteger();
+        var maxRunning = new AtomicInteger();
+        var started = new AtomicInteger();
+
+        var results = Flux.range(0, 10)
+                .flatMap(i -> executor.call(() -> {
+                    started.incrementAndGet();
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    Thread.sleep(30);
+                    running.decrementAndGet();
+                    return i;
+                }), 10)
+                .collectList()
+                .block(Duration.ofSeconds(5));
+
+        assertThat(results).hasSize(10);
+        assertThat(started.get()).isEqualTo(10);
+        assertThat(maxRunning.get()).isEqualTo(2);
+        assertThat(executor.availablePermits()).isEqualTo(2);
+    }
+
+    @Test
+    void testNullResultCompletesEmpty() {
+        StepVerifier.create(executor.call(() -> null))
+                .verifyComplete();
+
+        assertThat(executor.availablePermits()).isEqualTo(2);
+    }
+
+    @Test
+    void testFailureReleasesPermit() {
+        StepVerifier.create(executor.call(() -> {
+                    throw new IllegalStateException("boom");
+                }))
+                .verifyError(IllegalStateException.class);
+
+        assertThat(executor.availablePermits()).isEqualTo(2);
+    }
+
+    @Test
+    void testCancelledRunningCallKeepsPermitUntilItReturns() throws InterruptedException {
+        var started = new CountDownLatch(1);
+        var finish = new CountDownLatch(1);
+        var running = executor.call(() -> {
+            started.countDown();
+            awaitUninterruptibly(finish);
+            return 1;
+        }).subscribe();
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        running.dispose();
+        assertThat(executor.availablePermits()).isEqualTo(1);
+
+        finish.countDown();
+        awaitPermits(2);
+    }
+
+    @Test
+    void testCancelledQueuedCallsNeverRun() throws InterruptedException {
+        var started = new CountDownLatch(2);
+        var finish = new CountDownLatch(1);
+        var blockers = Flux.range(0, 2)
+                .flatMap(i -> executor.call(() -> {
+                    started.countDown();
+                    awaitUninterruptibly(finish);
+                    return i;
+                }))
+                .subscribe();
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        var queuedRuns = new AtomicInteger();
+        var queued = Mono.when(
+                executor.call(queuedRuns::incrementAndGet),
+                executor.call(queuedRuns::incrementAndGet)
+        ).subscribe();
+        queued.dispose();
+
+        finish.countDown();
+        awaitPermits(2);
+        blockers.dispose();
+
+        StepVerifier.create(Flux.merge(executor.call(() -> 4), executor.call(() -> 5)).count())
+                .expectNext(2L)
+                .verifyComplete();
+        assertThat(queuedRuns.get()).isZero();
+        assertThat(executor.availablePermits()).isEqualTo(2);
+    }
+
+    private void awaitPermits(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (executor.availablePermits() != expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(executor.availablePermits()).isEqualTo(expected);
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        // Mimics a JDBC call that ignores interrupts
+        while (true) {
+            try {
+                latch.await();
+                return;
+            } catch (InterruptedException ignored) {
+                // keep waiting
+            }
+        }
+    }
+
+}
@@ -0,0 +1,50 @@
+package com.example.common.config;
+
+import com.example.common.reactive.BlockingCallExecutor;
+import java.util.concurrent.Executors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Selects where blocking JPA calls behind the reactive facades are executed.
+ * <p>
+ * {@code app.blocking.execution-mode=bounded-elastic} (default) keeps Reactor's bounded elastic pool,
+ * {@code virtual-threads} runs every call on its own virtual thread. In both modes concurrency
+ * is limited to {@code app.blocking.max-concurrency}, which defaults to the Hikari pool size.
+ */
+@Configuration
+@Slf4j
+public class BlockingExecutionConfig {
+
+    public static final String VIRTUAL_THREADS = "virtual-threads";
+
+    @Value("${app.blocking.execution-mode:bounded-elastic}")
+    private String executionMode;
+    @Value("${app.blocking.max-concurrency:${spring.datasource.hikari.maximum-pool-size:10}}")
+    private int maxConcurrency;
+
+    @Bean(destroyMethod = "dispose")
+    public Scheduler blockingCallScheduler() {
+        if (VIRTUAL_THREADS.equalsIgnoreCase(executionMode)) {
+            log.info("Blocking calls run on virtual threads, max concurrency: '{}'", maxConcurrency);
+            return Schedulers.fromExecutorService(Executors.newVirtualThreadPerTaskExecutor(), "blocking-virtual");
+        }
+
+        log.info("Blocking calls run on bounded elastic scheduler, max concurrency: '{}'", maxConcurrency);
+        return Schedulers.newBoundedElastic(
+                Schedulers.DEFAULT_BOUNDED_ELASTIC_SIZE,
+                Schedulers.DEFAULT_BOUNDED_ELASTIC_QUEUESIZE,
+                "blocking-elastic"
+        );
+    }
+
+    @Bean
+    public BlockingCallExecutor blockingCallExecutor(Scheduler blockingCallScheduler) {
+        return new BlockingCallExecutor(blockingCallScheduler, maxConcurrency);
+    }
+
+}
@@ -0,0 +1,27 @@
+package com.example.common.repository.reactive;
+
+import com.example.common.domain.User;
+import com.example.common.reactive.BlockingCallExecutor;
+import com.example.common.repository.custom.CommonRepositoryCustom;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive facade over {@link CommonRepositoryCustom} for WebFlux callers.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReactiveCommonRepository {
+
+    private final CommonRepositoryCustom commonRepository;
+    private final BlockingCallExecutor blockingCallExecutor;
+
+    public Mono<Page<String>> fetchUserIds(Specification<User> specification, Pageable pageableRequest) {
+        return blockingCallExecutor.call(() -> commonRepository.fetchUserIds(specification, pageableRequest));
+    }
+
+}
@@ -0,0 +1,28 @@
+package adapters.repositories;
+
+import adapters.repositories.records.Record;
+import com.example.common.reactive.BlockingCallExecutor;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+/**
+ * Reactive facade over {@link ItemRepository} for WebFlux callers.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReactiveItemRepository {
+
+    private final ItemRepository itemRepository;
+    private final BlockingCallExecutor blockingCallExecutor;
+
+    public Flux<Record> findItemsForUser(List<Integer> codes) {
+        return blockingCallExecutor.callMany(() -> itemRepository.findItemsForUser(codes));
+    }
+
+    public Flux<Record> findItemsForUserWithNoCodes() {
+        return blockingCallExecutor.callMany(itemRepository::findItemsForUserWithNoCodes);
+    }
+
+}
@@ -0,0 +1,72 @@
+package com.example.demo.service.reactive;
+
+import com.example.common.reactive.BlockingCallExecutor;
+import com.example.demo.domain.Section;
+import com.example.demo.error.AppError;
+import com.example.demo.exception.ConcurrentUpdateException;
+import com.example.demo.service.SectionTransactionalService;
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+/**
+ * Reactive facade over section calculation. Optimistic-lock retries follow the policy of
+ * {@code SectionRetryServiceImpl}, but back off between attempts without holding a blocking-call
+ * permit, so a contended section does not starve the other JPA calls of the pool.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveSectionService {
+
+    private static final int MAX_ATTEMPTS = 8;
+    private static final Duration MIN_BACKOFF = Duration.ofMillis(300);
+    private static final Duration MAX_BACKOFF = Duration.ofSeconds(6);
+
+    private final SectionTransactionalService transactionalService;
+    private final BlockingCallExecutor blockingCallExecutor;
+
+    public Mono<Section> calculateSection(Section section) {
+        long id = section.getId();
+        return Mono.defer(() -> {
+                    log.info("Attempting section calculation. sectionId={}", id);
+                    return blockingCallExecutor.call(() -> transactionalService.calculateSectionTransactional(id));
+                })
+                .retryWhen(Retry.backoff(MAX_ATTEMPTS - 1, MIN_BACKOFF)
+                        .maxBackoff(MAX_BACKOFF)
+                        .filter(OptimisticLockingFailureException.class::isInstance)
+                        .onRetryExhaustedThrow((spec, signal) -> signal.failure()))
+                .onErrorResume(OptimisticLockingFailureException.class, exception -> recover(exception, section));
+    }
+
+    public Mono<Long> loadCurrentVersion(long id) {
+        return blockingCallExecutor.call(() -> transactionalService.loadCurrentVersion(id));
+    }
+
+    private Mono<Section> recover(OptimisticLockingFailureException exception, Section section) {
+        long id = section.getId();
+        return loadCurrentVersion(id)
+                .map(String::valueOf)
+                .defaultIfEmpty("unknown")
+                .flatMap(dbVersion -> {
+                    log.error(
+                            "Failed to update entity after {} retries due to optimistic locking. " +
+                            "entity = {}, id = {}, inputVersion = {}, dbVersion = {}",
+                            MAX_ATTEMPTS - 1,
+                            Section.class.getSimpleName(),
+                            id,
+                            section.getVersion(),
+                            dbVersion,
+                            exception
+                    );
+                    return Mono.error(new ConcurrentUpdateException(
+                            new AppError("Concurrent update detected for entity id=" + id)
+                    ));
+                });
+    }
+
+}